@@ -0,0 +1,138 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.onap.cps.tbdmt.client.CpsRestClient;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.CpsConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Cost of a request towards CPS on the client side: URL, headers and body of the request and reading
+ * of the response, with the transport replaced by a canned response. The gc.alloc.rate.norm of the
+ * GC profiler gives the allocation per call; changeCredentials measures a call which rebuilds the
+ * request prototype of the backend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CpsRestClientBenchmark {
+
+    private static final String ANCHOR = "coverage-area-onap";
+
+    private static final String XPATH = "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+        + "/coverage-area[@coverageArea='Zone 1']";
+
+    private static final RawJson PAYLOAD = RawJson.of(
+        "{\"coverage-area\":{\"coverageArea\":\"Zone 1\",\"coverageAreaTAList\":{\"nRTAC\":310}}}");
+
+    private CpsRestClient cpsRestClient;
+
+    private CpsConfiguration cpsConfiguration;
+
+    private boolean alternatePassword;
+
+    /**
+     * Create a client whose requests return the same canned response.
+     */
+    @Setup
+    public void setup() {
+        cpsConfiguration = new CpsConfiguration();
+        cpsConfiguration.setUrl("http://cps:8080/cps/api/v1/dataspaces/E2EDemo");
+        cpsConfiguration.setUsername("cpsuser");
+        cpsConfiguration.setPassword("cpsr0cks!");
+        final AppConfiguration appConfiguration = new AppConfiguration();
+        appConfiguration.setCpsCoreConfiguration(cpsConfiguration);
+        appConfiguration.setNcmpConfiguration(cpsConfiguration);
+        appConfiguration.setCpsClient("cpsCore");
+        final byte[] body = Documents.fixture("sample_multiple_query_data_2.json").getBytes(StandardCharsets.UTF_8);
+        final RestTemplate restTemplate = new RestTemplate((uri, httpMethod) -> {
+            final MockClientHttpResponse response = new MockClientHttpResponse(
+                httpMethod == HttpMethod.DELETE ? new byte[0] : body,
+                httpMethod == HttpMethod.DELETE ? HttpStatus.NO_CONTENT : HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            final MockClientHttpRequest request = new MockClientHttpRequest(httpMethod, uri);
+            request.setResponse(response);
+            return request;
+        });
+        cpsRestClient = new CpsRestClient();
+        ReflectionTestUtils.setField(cpsRestClient, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(cpsRestClient, "appConfiguration", appConfiguration);
+        ReflectionTestUtils.setField(cpsRestClient, "meterRegistry", new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public String fetchNode() throws CpsClientException {
+        return cpsRestClient.fetchNode(ANCHOR, XPATH, "get", true);
+    }
+
+    @Benchmark
+    public String queryCpsPath() throws CpsClientException {
+        return cpsRestClient.fetchNode(ANCHOR, "//coverage-area[@coverageArea='Zone 1']", "query-cps-path", true);
+    }
+
+    @Benchmark
+    public String addData() throws CpsClientException {
+        return cpsRestClient.addData(ANCHOR, XPATH, "put", PAYLOAD);
+    }
+
+    @Benchmark
+    public String deleteData() throws CpsClientException {
+        return cpsRestClient.deleteData(ANCHOR, XPATH, "delete");
+    }
+
+    /**
+     * Fetch a node after every change of the credentials of the backend.
+     *
+     * @return response from the canned transport
+     * @throws CpsClientException never
+     */
+    @Benchmark
+    public String changeCredentials() throws CpsClientException {
+        alternatePassword = !alternatePassword;
+        cpsConfiguration.setPassword(alternatePassword ? "cpsr0cks!!" : "cpsr0cks!");
+        return cpsRestClient.fetchNode(ANCHOR, XPATH, "get", true);
+    }
+}
@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Documents returned by CPS: the fixtures of the service tests and generated documents of any size.
+ */
+public final class Documents {
+
+    public static final String FIXTURE = "fixture";
+
+    private Documents() {
+    }
+
+    /**
+     * Read a fixture of the service tests.
+     *
+     * @param name file name of the fixture
+     * @return content of the fixture
+     */
+    public static String fixture(final String name) {
+        try (InputStream inputStream = Documents.class.getClassLoader().getResourceAsStream(name)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Fixture not found: " + name);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generate a Near RT RIC with the shape of sample_transform_query_data.json, with 100 cells per
+     * GNBDUFunction.
+     *
+     * @param cells number of NRCellDU
+     * @return JSON document
+     */
+    public static String nearRtRic(final int cells) {
+        final StringBuilder document = new StringBuilder(cells * 420 + 256);
+        document.append("{\"attributes\":{\"near-rt-ric-url\":\"10.165.160.47:6080\",\"trackingArea\":\"Kingston\"},")
+            .append("\"GNBDUFunction\":[");
+        for (int function = 0; function * 100 < cells; function++) {
+            if (function > 0) {
+                document.append(',');
+            }
+            document.append("{\"idGNBDUFunction\":\"").append(function)
+                .append("\",\"attributes\":{\"gNBDUName\":\"gnbdu").append(function)
+                .append("\",\"gNBDUId\":").append(function).append("},\"NRCellDU\":[");
+            for (int cell = function * 100; cell < Math.min(cells, (function + 1) * 100); cell++) {
+                if (cell > function * 100) {
+                    document.append(',');
+                }
+                document.append("{\"idNRCellDU\":\"").append(cell)
+                    .append("\",\"attributes\":{\"nRCellDU-url\":\"10.165.160.15:8083\",\"cellLocalId\":")
+                    .append(cell)
+                    .append(",\"pLMNInfoList\":[{\"mcc\":\"211\",\"mnc\":\"211\",\"sNSSAIList\":[{\"sNssai\":\"202\",")
+                    .append("\"status\":\"active\",\"configData\":[{\"configParameter\":\"maxNumberOfConns\",")
+                    .append("\"configValue\":20}]}]}],\"nRPCI\":11,\"nRTAC\":14777,")
+                    .append("\"nRSectorCarrierRef\":[\"OU=Sales\"],\"userLabel\":\"user\",")
+                    .append("\"sAP\":[{\"host\":\"localhost\",\"port\":8080}]}}");
+            }
+            document.append("]}");
+        }
+        return document.append("]}").toString();
+    }
+
+    /**
+     * Generate a tree with the shape of sample_multiple_query_data_1.json.
+     *
+     * @param branches number of branches
+     * @return JSON document
+     */
+    public static String tree(final int branches) {
+        final StringBuilder document = new StringBuilder(branches * 100 + 16).append("{\"branch\":[");
+        for (int branch = 0; branch < branches; branch++) {
+            if (branch > 0) {
+                document.append(',');
+            }
+            document.append("{\"name\":\"branch-").append(branch).append("\",\"nest\":{\"name\":\"nest-")
+                .append(branch).append("\",\"birds\":[\"Owl\",\"Raven\",\"Crow\"]}}");
+        }
+        return document.append("]}").toString();
+    }
+}
@@ -0,0 +1,84 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodecConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading and writing of whole documents by each JSON codec, as done when the result of a consolidated
+ * query is split and when a write payload is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int cells;
+
+    @Param({JsonCodecConfiguration.GSON, JsonCodecConfiguration.JACKSON})
+    private String codec;
+
+    private JsonCodec jsonCodec;
+
+    private String document;
+
+    private Object value;
+
+    /**
+     * Build the document and its parsed value.
+     *
+     * @throws IOException if the document cannot be read
+     */
+    @Setup
+    public void setup() throws IOException {
+        jsonCodec = JsonCodecConfiguration.create(codec);
+        document = Documents.nearRtRic(cells);
+        value = jsonCodec.parse(document);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return jsonCodec.parse(document);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return jsonCodec.toJson(value);
+    }
+}
@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodecConfiguration;
+import org.onap.cps.tbdmt.service.ExecutionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The parts of a multiple query which do not call CPS: the input parameters taken from the result of
+ * the query template and the assembly of the results of the fan-out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipleQueryAssemblyBenchmark {
+
+    private static final List<String> QUERY_STAGES = List.of("branch", "name");
+
+    private static final List<String> RESULT_STAGES = List.of("name");
+
+    @Param({"10", "100", "1000"})
+    private int branches;
+
+    @Param({JsonCodecConfiguration.GSON, JsonCodecConfiguration.JACKSON})
+    private String codec;
+
+    private JsonCodec jsonCodec;
+
+    private String queryDocument;
+
+    private List<ExecutionResult> results;
+
+    /**
+     * Build the result of the query template and the results of the fan-out.
+     *
+     * @throws IOException if a document cannot be read
+     */
+    @Setup
+    public void setup() throws IOException {
+        jsonCodec = JsonCodecConfiguration.create(codec);
+        queryDocument = Documents.tree(branches);
+        final String nestDocument = Documents.fixture("sample_multiple_query_data_2.json");
+        results = new ArrayList<>(branches);
+        for (int branch = 0; branch < branches; branch++) {
+            results.add(ExecutionResult.ofExtraction(jsonCodec,
+                jsonCodec.extract(new StringReader(nestDocument), RESULT_STAGES)));
+        }
+    }
+
+    @Benchmark
+    public List<String> queryParameters() throws IOException {
+        return ExecutionResult.ofExtraction(jsonCodec,
+            jsonCodec.extract(new StringReader(queryDocument), QUERY_STAGES)).toQueryParameters();
+    }
+
+    @Benchmark
+    public String assembleResults() {
+        return results.stream().map(ExecutionResult::toJson).collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,93 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.onap.cps.tbdmt.json.Extraction;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodecConfiguration;
+import org.onap.cps.tbdmt.service.ExecutionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extraction of the values selected by a transformParam and their serialization, which removes the
+ * brackets of single valued lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransformBenchmark {
+
+    @Param({Documents.FIXTURE, "100", "1000", "10000"})
+    private String cells;
+
+    @Param({"GNBDUFunction, NRCellDU, attributes, cellLocalId",
+        "GNBDUFunction, NRCellDU, attributes, nRSectorCarrierRef"})
+    private String transformParam;
+
+    @Param({JsonCodecConfiguration.GSON, JsonCodecConfiguration.JACKSON})
+    private String codec;
+
+    private JsonCodec jsonCodec;
+
+    private String document;
+
+    private List<String> stages;
+
+    /**
+     * Build the document and the transform stages.
+     */
+    @Setup
+    public void setup() {
+        document = Documents.FIXTURE.equals(cells) ? Documents.fixture("sample_transform_query_data.json")
+            : Documents.nearRtRic(Integer.parseInt(cells));
+        stages = Arrays.asList(transformParam.split("\\s*,\\s*"));
+        jsonCodec = JsonCodecConfiguration.create(codec);
+    }
+
+    @Benchmark
+    public Extraction extract() throws IOException {
+        return jsonCodec.extract(new StringReader(document), stages);
+    }
+
+    @Benchmark
+    public String extractAndSerialize() throws IOException {
+        return ExecutionResult.ofExtraction(jsonCodec, jsonCodec.extract(new StringReader(document), stages))
+            .toJson();
+    }
+}
@@ -0,0 +1,94 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.onap.cps.tbdmt.service.XpathTemplateRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Rendering of xpath templates, with the compiled template cached and compiled on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XpathRenderBenchmark {
+
+    private static final Map<String, String> XPATH_TEMPLATES = Map.of(
+        "substitution", "/ran-coverage-area/pLMNIdList[@mcc='{{mcc}}' and @mnc='{{mnc}}']"
+            + "/coverage-area[@coverageArea='{{coverageArea}}']",
+        "expression", "/NearRTRIC[@idNearRTRIC='{{ idNearRTRIC }}']{% if cellLocalId %}"
+            + "/GNBDUFunction/NRCellDU[@cellLocalId='{{ cellLocalId|int }}']{% endif %}");
+
+    private static final Map<String, String> PARAMETERS = Map.of("mcc", "310", "mnc", "410",
+        "coverageArea", "Zone 1", "idNearRTRIC", "11", "cellLocalId", "15299");
+
+    @Param({"substitution", "expression"})
+    private String xpathTemplate;
+
+    private XpathTemplateRegistry xpathTemplateRegistry;
+
+    private Template template;
+
+    private TemplateKey templateKey;
+
+    /**
+     * Create the registry and the template.
+     */
+    @Setup
+    public void setup() {
+        xpathTemplateRegistry = new XpathTemplateRegistry();
+        ReflectionTestUtils.setField(xpathTemplateRegistry, "meterRegistry", new SimpleMeterRegistry());
+        xpathTemplateRegistry.registerMetrics();
+        template = new Template("getNbr", "ran-network", XPATH_TEMPLATES.get(xpathTemplate), "get", true, null,
+            null);
+        templateKey = new TemplateKey(template.getTemplateId());
+    }
+
+    @Benchmark
+    public String render() {
+        return xpathTemplateRegistry.render(template, PARAMETERS);
+    }
+
+    @Benchmark
+    public String compileAndRender() {
+        xpathTemplateRegistry.invalidate(templateKey);
+        return xpathTemplateRegistry.render(template, PARAMETERS);
+    }
+}
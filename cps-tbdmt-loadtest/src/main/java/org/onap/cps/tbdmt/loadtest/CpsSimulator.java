@@ -0,0 +1,192 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the CPS and NCMP REST APIs used by the service. Every response is delayed by
+ * the configured latency and fails with the configured error rate. Reads of a nest
+ * (xpath ending with /nest) return a small document; other reads return a tree of branches padded to
+ * the configured payload size, which drives the multiple query fan-out.
+ */
+public class CpsSimulator {
+
+    public static final String BASE_PATH = "/cps/api/v1/dataspaces/load";
+
+    private static final Pattern ANCHOR_PATH =
+        Pattern.compile("/anchors/([^/]+)/(node|nodes/query|nodes|list-nodes)");
+
+    private final LoadTestSettings settings;
+
+    private final byte[] treeDocument;
+
+    private final Map<String, AtomicLong> requestCounts = new HashMap<>();
+
+    private HttpServer httpServer;
+
+    private ExecutorService executorService;
+
+    /**
+     * Create a simulator.
+     *
+     * @param settings latency, payload size, error rate and fan-out of the responses
+     */
+    public CpsSimulator(final LoadTestSettings settings) {
+        this.settings = settings;
+        this.treeDocument = tree(settings.getCpsFanOut(), settings.getCpsPayloadBytes());
+        for (final String path : new String[] {"node", "nodes/query", "nodes", "list-nodes"}) {
+            requestCounts.put(path, new AtomicLong());
+        }
+    }
+
+    /**
+     * Start serving on an ephemeral port.
+     *
+     * @return base URL of the simulated dataspace
+     * @throws IOException if the server cannot be started
+     */
+    public String start() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        executorService = Executors.newCachedThreadPool();
+        httpServer.setExecutor(executorService);
+        httpServer.createContext(BASE_PATH, this::handle);
+        httpServer.start();
+        return "http://127.0.0.1:" + httpServer.getAddress().getPort() + BASE_PATH;
+    }
+
+    /**
+     * Stop serving.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    public Map<String, AtomicLong> getRequestCounts() {
+        return requestCounts;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.readAllBytes();
+            final Matcher matcher = ANCHOR_PATH.matcher(
+                exchange.getRequestURI().getPath().substring(BASE_PATH.length()));
+            if (!matcher.matches()) {
+                respond(exchange, 404, null);
+                return;
+            }
+            final String path = matcher.group(2);
+            requestCounts.get(path).incrementAndGet();
+            sleep(settings.getCpsLatencyMillis());
+            if (ThreadLocalRandom.current().nextDouble() < settings.getCpsErrorRate()) {
+                respond(exchange, 500, "{\"message\":\"Simulated error\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            final String method = exchange.getRequestMethod();
+            if ("GET".equals(method)) {
+                final String xpath = xpath(exchange.getRequestURI().getRawQuery());
+                respond(exchange, 200, xpath.endsWith("/nest") ? nest(xpath) : treeDocument);
+            } else if ("DELETE".equals(method)) {
+                respond(exchange, 204, null);
+            } else if ("POST".equals(method)) {
+                respond(exchange, 201, null);
+            } else {
+                respond(exchange, 200, null);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body)
+        throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private static String xpath(final String rawQuery) {
+        if (rawQuery != null) {
+            for (final String parameter : rawQuery.split("&")) {
+                final int separator = parameter.indexOf('=');
+                final String name = separator < 0 ? parameter : parameter.substring(0, separator);
+                if (separator > 0 && ("xpath".equals(name) || "cps-path".equals(name))) {
+                    return URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return "";
+    }
+
+    private static byte[] nest(final String xpath) {
+        return ("{\"name\":\"nest of " + xpath.replace("\"", "'") + "\",\"birds\":[\"Owl\",\"Raven\",\"Crow\"]}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] tree(final int branches, final int payloadBytes) {
+        final StringBuilder document = new StringBuilder(payloadBytes + 64).append("{\"branch\":[");
+        for (int branch = 0; branch < branches; branch++) {
+            if (branch > 0) {
+                document.append(',');
+            }
+            document.append("{\"name\":\"branch-").append(branch).append("\",\"nest\":{\"name\":\"nest-")
+                .append(branch).append("\",\"birds\":[\"Owl\",\"Raven\",\"Crow\"]}}");
+        }
+        document.append("],\"padding\":\"");
+        while (document.length() < payloadBytes - 2) {
+            document.append('x');
+        }
+        return document.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
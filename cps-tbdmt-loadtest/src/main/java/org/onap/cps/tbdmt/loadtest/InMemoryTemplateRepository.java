@@ -0,0 +1,103 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+
+/**
+ * Template store of the load tests, so that the service runs without a database.
+ */
+public class InMemoryTemplateRepository implements TemplateRepository {
+
+    private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends Template> S save(final S template) {
+        templates.put(new TemplateKey(template.getTemplateId()), template);
+        return template;
+    }
+
+    @Override
+    public <S extends Template> Iterable<S> saveAll(final Iterable<S> templatesToSave) {
+        final List<S> saved = new ArrayList<>();
+        templatesToSave.forEach(template -> saved.add(save(template)));
+        return saved;
+    }
+
+    @Override
+    public Optional<Template> findById(final TemplateKey templateKey) {
+        return Optional.ofNullable(templates.get(templateKey));
+    }
+
+    @Override
+    public boolean existsById(final TemplateKey templateKey) {
+        return templates.containsKey(templateKey);
+    }
+
+    @Override
+    public Iterable<Template> findAll() {
+        return new ArrayList<>(templates.values());
+    }
+
+    @Override
+    public Iterable<Template> findAllById(final Iterable<TemplateKey> templateKeys) {
+        final List<Template> found = new ArrayList<>();
+        templateKeys.forEach(templateKey -> findById(templateKey).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return templates.size();
+    }
+
+    @Override
+    public void deleteById(final TemplateKey templateKey) {
+        templates.remove(templateKey);
+    }
+
+    @Override
+    public void delete(final Template template) {
+        deleteById(new TemplateKey(template.getTemplateId()));
+    }
+
+    @Override
+    public void deleteAllById(final Iterable<? extends TemplateKey> templateKeys) {
+        templateKeys.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(final Iterable<? extends Template> templatesToDelete) {
+        templatesToDelete.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        templates.clear();
+    }
+}
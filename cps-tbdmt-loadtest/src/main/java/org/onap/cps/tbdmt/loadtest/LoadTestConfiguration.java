@@ -0,0 +1,53 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.loadtest;
+
+import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.model.Template;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Templates executed by the load test scenarios, served from memory.
+ */
+@Configuration
+public class LoadTestConfiguration {
+
+    public static final String MODEL = "ran-network";
+
+    /**
+     * Template store holding the templates of the scenarios.
+     *
+     * @return template repository
+     */
+    @Bean
+    public TemplateRepository templateRepository() {
+        final TemplateRepository templateRepository = new InMemoryTemplateRepository();
+        templateRepository.save(new Template("load-read", MODEL, "/ran-network/cell[@id='{{cell}}']", "get", true,
+            null, null));
+        templateRepository.save(new Template("load-write", MODEL, "/ran-network/cell[@id='{{cell}}']", "put", true,
+            null, null));
+        templateRepository.save(new Template("load-tree", MODEL, "/test-tree", "get", true, null, "branch, name"));
+        templateRepository.save(new Template("load-branches", MODEL, "/test-tree/branch[@name='{{name}}']/nest",
+            "get", true, "load-tree", "name"));
+        return templateRepository;
+    }
+}
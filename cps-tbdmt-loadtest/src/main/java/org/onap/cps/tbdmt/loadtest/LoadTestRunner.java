@@ -0,0 +1,174 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import org.onap.cps.tbdmt.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the service against a {@link CpsSimulator} and drives the read, write and multiple query
+ * scenarios through the execute endpoint, reporting the latency percentiles and the throughput of each.
+ */
+public final class LoadTestRunner {
+
+    private static final String EXECUTE_PATH = "/execute/" + LoadTestConfiguration.MODEL + "/";
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * Run the load test. Settings are read from system properties, see {@link LoadTestSettings}; any
+     * app.* system property configures the service.
+     *
+     * @param args not used
+     * @throws Exception if the service or the simulator cannot be started
+     */
+    public static void main(final String[] args) throws Exception {
+        final LoadTestSettings settings = new LoadTestSettings();
+        final CpsSimulator cpsSimulator = new CpsSimulator(settings);
+        final String cpsUrl = cpsSimulator.start();
+        final ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(Application.class)
+            .properties(serviceProperties(cpsUrl))
+            .run();
+        final int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        // the clients block in send(), so the HttpClient keeps its own executor for the exchanges
+        final ExecutorService workers = Executors.newFixedThreadPool(settings.getConcurrency());
+        final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        try {
+            System.out.println("Load test: " + settings);
+            final List<ScenarioReport> reports = new ArrayList<>();
+            for (final String scenario : settings.getScenarios()) {
+                final LongFunction<HttpRequest> requests = requests(scenario, "http://127.0.0.1:" + port, settings);
+                run(workers, httpClient, requests, settings.getConcurrency(), settings.getWarmupSeconds(), scenario);
+                reports.add(run(workers, httpClient, requests, settings.getConcurrency(),
+                    settings.getDurationSeconds(), scenario));
+            }
+            System.out.print(ScenarioReport.header());
+            reports.forEach(System.out::print);
+            System.out.println("CPS requests: " + cpsSimulator.getRequestCounts());
+        } finally {
+            workers.shutdownNow();
+            applicationContext.close();
+            cpsSimulator.stop();
+        }
+    }
+
+    private static Map<String, Object> serviceProperties(final String cpsUrl) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.autoconfigure.exclude",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration");
+        properties.put("spring.data.jpa.repositories.enabled", false);
+        properties.put("app.cpsClient", "cpsCore");
+        for (final String configuration : new String[] {"cpsCoreConfiguration", "ncmpConfiguration"}) {
+            properties.put("app." + configuration + ".url", cpsUrl);
+            properties.put("app." + configuration + ".username", "cpsuser");
+            properties.put("app." + configuration + ".password", "cpsr0cks!");
+        }
+        properties.put("app.schemaToAnchor." + LoadTestConfiguration.MODEL, "load-anchor");
+        return properties;
+    }
+
+    private static LongFunction<HttpRequest> requests(final String scenario, final String baseUrl,
+                                                      final LoadTestSettings settings) {
+        final String templateId;
+        switch (scenario) {
+            case "read":
+                templateId = "load-read";
+                break;
+            case "write":
+                templateId = "load-write";
+                break;
+            case "multi-query":
+                templateId = "load-branches";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+        final URI uri = URI.create(baseUrl + EXECUTE_PATH + templateId);
+        return sequence -> {
+            final long cell = sequence % settings.getDistinctInputs();
+            final String body = "{\"inputParameters\":{\"cell\":\"" + cell + "\"},"
+                + "\"payload\":{\"cell\":[{\"id\":\"" + cell + "\",\"state\":\"active\"}]}}";
+            return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        };
+    }
+
+    private static ScenarioReport run(final ExecutorService workers, final HttpClient httpClient,
+                                      final LongFunction<HttpRequest> requests, final int concurrency,
+                                      final int seconds, final String scenario)
+        throws InterruptedException, ExecutionException {
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        final AtomicLong sequence = new AtomicLong();
+        final List<Future<ScenarioReport.Samples>> futures = new ArrayList<>(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            futures.add(workers.submit(() -> {
+                final ScenarioReport.Samples samples = new ScenarioReport.Samples();
+                while (System.nanoTime() < end) {
+                    final HttpRequest request = requests.apply(sequence.getAndIncrement());
+                    final long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        final HttpResponse<String> response =
+                            httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                        // execution errors are returned with status 200 and an error response
+                        success = response.statusCode() == 200 && !response.body().startsWith("{\"message\"");
+                    } catch (final IOException e) {
+                        success = false;
+                    }
+                    samples.record(System.nanoTime() - start, success);
+                }
+                return samples;
+            }));
+        }
+        final List<ScenarioReport.Samples> samples = new ArrayList<>(concurrency);
+        for (final Future<ScenarioReport.Samples> future : futures) {
+            samples.add(future.get());
+        }
+        return new ScenarioReport(scenario, samples, seconds);
+    }
+}
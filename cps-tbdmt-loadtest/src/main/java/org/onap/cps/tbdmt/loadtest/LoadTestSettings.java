@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Settings of a load test run, read from system properties.
+ */
+@Getter
+public class LoadTestSettings {
+
+    private final int concurrency = Integer.getInteger("load.concurrency", 16);
+
+    private final int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+
+    private final int distinctInputs = Integer.getInteger("load.distinctInputs", 1000);
+
+    private final List<String> scenarios = Arrays.asList(
+        System.getProperty("load.scenarios", "read,write,multi-query").split("\\s*,\\s*"));
+
+    private final int cpsLatencyMillis = Integer.getInteger("cps.latencyMillis", 5);
+
+    private final int cpsPayloadBytes = Integer.getInteger("cps.payloadBytes", 4096);
+
+    private final double cpsErrorRate = Double.parseDouble(System.getProperty("cps.errorRate", "0"));
+
+    private final int cpsFanOut = Integer.getInteger("cps.fanOut", 10);
+
+    @Override
+    public String toString() {
+        return String.format("concurrency=%d warmup=%ds duration=%ds distinctInputs=%d scenarios=%s"
+                + " cps.latency=%dms cps.payload=%dB cps.errorRate=%.3f cps.fanOut=%d", concurrency, warmupSeconds,
+            durationSeconds, distinctInputs, scenarios, cpsLatencyMillis, cpsPayloadBytes, cpsErrorRate, cpsFanOut);
+    }
+}
@@ -0,0 +1,118 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Latencies and throughput of one scenario, merged from the samples of all workers.
+ */
+public class ScenarioReport {
+
+    private static final String ROW_FORMAT = "%-12s %10s %8s %10s %10s %10s %10s %10s%n";
+
+    private final String scenario;
+
+    private final long[] latencies;
+
+    private final long errors;
+
+    private final double seconds;
+
+    /**
+     * Merge the samples of the workers of a scenario.
+     *
+     * @param scenario name of the scenario
+     * @param samples samples of every worker
+     * @param seconds duration of the measurement
+     */
+    public ScenarioReport(final String scenario, final List<Samples> samples, final double seconds) {
+        this.scenario = scenario;
+        this.seconds = seconds;
+        int count = 0;
+        long errorCount = 0;
+        for (final Samples workerSamples : samples) {
+            count += workerSamples.count;
+            errorCount += workerSamples.errors;
+        }
+        latencies = new long[count];
+        int offset = 0;
+        for (final Samples workerSamples : samples) {
+            System.arraycopy(workerSamples.latencies, 0, latencies, offset, workerSamples.count);
+            offset += workerSamples.count;
+        }
+        Arrays.sort(latencies);
+        errors = errorCount;
+    }
+
+    public static String header() {
+        return String.format(ROW_FORMAT, "scenario", "requests", "errors", "rps", "p50 ms", "p99 ms", "p999 ms",
+            "max ms");
+    }
+
+    @Override
+    public String toString() {
+        return String.format(ROW_FORMAT, scenario, latencies.length, errors,
+            String.format("%.1f", latencies.length / seconds), millis(percentile(0.50)), millis(percentile(0.99)),
+            millis(percentile(0.999)), millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    private long percentile(final double quantile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(quantile * latencies.length);
+        return latencies[Math.max(0, rank - 1)];
+    }
+
+    private static String millis(final long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Latencies recorded by one worker, in nanoseconds.
+     */
+    public static class Samples {
+
+        private long[] latencies = new long[1024];
+
+        private int count;
+
+        private long errors;
+
+        /**
+         * Record a request.
+         *
+         * @param latency latency in nanoseconds
+         * @param success whether the request succeeded
+         */
+        public void record(final long latency, final boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.onap.cps.tbdmt.model.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/**
+ * Error responses of the reactive deployment, the same as those of {@link TemplateExceptionHandler}.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTemplateExceptionHandler {
+
+    @ExceptionHandler(TemplateNotFoundException.class)
+    public final ResponseEntity<Object> handleTemplateNotFoundException(
+        final TemplateNotFoundException templateNotFoundException) {
+        return errorResponse("Template Not found", templateNotFoundException, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ExecuteException.class)
+    public final ResponseEntity<Object> handleExecutionException(final ExecuteException executeException) {
+        return errorResponse("Error while executing template", executeException, HttpStatus.OK);
+    }
+
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public final ResponseEntity<Object> handleBatchLimitExceededException(
+        final BatchLimitExceededException batchLimitExceededException) {
+        return errorResponse("Validation Failed", batchLimitExceededException, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TemplateDependencyException.class)
+    public final ResponseEntity<Object> handleTemplateDependencyException(
+        final TemplateDependencyException templateDependencyException) {
+        return errorResponse("Validation Failed", templateDependencyException, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle an invalid request body.
+     *
+     * @param webExchangeBindException Exception
+     * @return response entity
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public final ResponseEntity<Object> handleWebExchangeBindException(
+        final WebExchangeBindException webExchangeBindException) {
+        final List<String> details = new ArrayList<>();
+        for (final ObjectError objectError : webExchangeBindException.getBindingResult().getAllErrors()) {
+            details.add(objectError.getDefaultMessage());
+        }
+        return new ResponseEntity<>(new ErrorResponse("Validation Failed", details), HttpStatus.BAD_REQUEST);
+    }
+
+    private static ResponseEntity<Object> errorResponse(final String message, final Exception exception,
+                                                        final HttpStatus httpStatus) {
+        final List<String> details = new ArrayList<>();
+        details.add(exception.getLocalizedMessage());
+        return new ResponseEntity<>(new ErrorResponse(message, details), httpStatus);
+    }
+}
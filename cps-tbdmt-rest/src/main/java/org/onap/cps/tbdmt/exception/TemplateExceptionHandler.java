@@ -24,9 +24,12 @@ package org.onap.cps.tbdmt.exception;
 import java.util.ArrayList;
 import java.util.List;
 import org.onap.cps.tbdmt.model.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,6 +39,7 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TemplateExceptionHandler extends ResponseEntityExceptionHandler {
 
     /**
@@ -51,7 +55,7 @@ public class TemplateExceptionHandler extends ResponseEntityExceptionHandler {
         final List<String> details = new ArrayList<>();
         details.add(templateNotFoundException.getLocalizedMessage());
         final ErrorResponse ErrorResponse = new ErrorResponse("Template Not found", details);
-        return new ResponseEntity<>(ErrorResponse, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(ErrorResponse, jsonHeaders(), HttpStatus.NOT_FOUND);
     }
 
     /**
@@ -67,7 +71,55 @@ public class TemplateExceptionHandler extends ResponseEntityExceptionHandler {
         final List<String> details = new ArrayList<>();
         details.add(executeException.getLocalizedMessage());
         final ErrorResponse ErrorResponse = new ErrorResponse("Error while executing template", details);
-        return new ResponseEntity<>(ErrorResponse, HttpStatus.OK);
+        return new ResponseEntity<>(ErrorResponse, jsonHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * Handle BatchLimitExceededException.
+     *
+     * @param batchLimitExceededException Exception
+     * @param webRequest web request
+     * @return response entity
+     */
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public final ResponseEntity<Object> handleBatchLimitExceededException(
+        final BatchLimitExceededException batchLimitExceededException, final WebRequest webRequest) {
+        final List<String> details = new ArrayList<>();
+        details.add(batchLimitExceededException.getLocalizedMessage());
+        final ErrorResponse ErrorResponse = new ErrorResponse("Validation Failed", details);
+        return new ResponseEntity<>(ErrorResponse, jsonHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle TemplateDependencyException.
+     *
+     * @param templateDependencyException Exception
+     * @param webRequest web request
+     * @return response entity
+     */
+    @ExceptionHandler(TemplateDependencyException.class)
+    public final ResponseEntity<Object> handleTemplateDependencyException(
+        final TemplateDependencyException templateDependencyException, final WebRequest webRequest) {
+        final List<String> details = new ArrayList<>();
+        details.add(templateDependencyException.getLocalizedMessage());
+        final ErrorResponse ErrorResponse = new ErrorResponse("Validation Failed", details);
+        return new ResponseEntity<>(ErrorResponse, jsonHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle TaskRejectedException, raised when all stream threads and their queue are taken.
+     *
+     * @param taskRejectedException Exception
+     * @param webRequest web request
+     * @return response entity
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public final ResponseEntity<Object> handleTaskRejectedException(
+        final TaskRejectedException taskRejectedException, final WebRequest webRequest) {
+        final List<String> details = new ArrayList<>();
+        details.add("Too many streamed executions in progress, retry later");
+        final ErrorResponse ErrorResponse = new ErrorResponse("Service Unavailable", details);
+        return new ResponseEntity<>(ErrorResponse, jsonHeaders(), HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
@@ -79,6 +131,18 @@ public class TemplateExceptionHandler extends ResponseEntityExceptionHandler {
             details.add(objectError.getDefaultMessage());
         }
         final ErrorResponse ErrorResponse = new ErrorResponse("Validation Failed", details);
-        return new ResponseEntity<>(ErrorResponse, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(ErrorResponse, jsonHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Headers of the error responses. The content type is set explicitly so that errors of requests
+     * accepting newline delimited JSON only are still rendered.
+     *
+     * @return response headers
+     */
+    private static HttpHeaders jsonHeaders() {
+        final HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+        return httpHeaders;
     }
 }
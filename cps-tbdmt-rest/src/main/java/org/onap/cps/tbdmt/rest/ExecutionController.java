@@ -22,24 +22,37 @@
 package org.onap.cps.tbdmt.rest;
 
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.onap.cps.tbdmt.model.BatchExecutionItem;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
 import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.service.ExecutionBusinessLogic;
+import org.onap.cps.tbdmt.service.StreamedResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ExecutionController {
 
     @Autowired
     private ExecutionBusinessLogic executionBusinessLogic;
 
     /**
-     * Execute a template by model and templateId.
+     * Execute a template by model and templateId. The result is streamed from CPS when the template is
+     * executed as a pass-through, and otherwise written at once with its length.
      *
      * @param model model to find the template
      * @param templateId Id to find the template
@@ -47,11 +60,52 @@ public class ExecutionController {
      * @return result of the execution
      */
     @PostMapping(path = "/execute/{model}/{templateId}")
-    public ResponseEntity<String> executeTemplate(@Valid @PathVariable final String model,
-                                                  @Valid @PathVariable final String templateId,
-                                                  @Valid @RequestBody final ExecutionRequest executionRequest) {
-        final String result = executionBusinessLogic.executeTemplate(model, templateId, executionRequest);
-        return new ResponseEntity<>(result, HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> executeTemplate(@Valid @PathVariable final String model,
+            @Valid @PathVariable final String templateId,
+            @Valid @RequestBody final ExecutionRequest executionRequest) {
+        final Template template = executionBusinessLogic.getTemplate(templateId);
+        final Optional<StreamedResult> streamedResult =
+            executionBusinessLogic.passThrough(model, template, executionRequest);
+        if (streamedResult.isPresent()) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(streamedResult.get()::writeTo);
+        }
+        final byte[] result = executionBusinessLogic.executeTemplate(model, template, executionRequest)
+            .getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).contentLength(result.length)
+            .body(outputStream -> outputStream.write(result));
+    }
+
+    /**
+     * Execute a template by model and templateId, writing its results as newline delimited JSON as soon
+     * as they are available.
+     *
+     * @param model model to find the template
+     * @param templateId Id to find the template
+     * @param ordered whether the results of a multiple query keep the order of its values
+     * @param executionRequest execution request
+     * @return results of the execution, one per line
+     */
+    @PostMapping(path = "/execute/{model}/{templateId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> executeTemplateAsNdjson(@Valid @PathVariable final String model,
+            @Valid @PathVariable final String templateId,
+            @RequestParam(defaultValue = "false") final boolean ordered,
+            @Valid @RequestBody final ExecutionRequest executionRequest) {
+        final StreamingResponseBody responseBody =
+            executionBusinessLogic.streamTemplate(model, templateId, executionRequest, ordered)::writeTo;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(responseBody);
+    }
+
+    /**
+     * Execute a batch of templates.
+     *
+     * @param batchExecutionItems templates to execute with their inputs
+     * @return result or error of every item, in the order of the items
+     */
+    @PostMapping(path = "/execute/batch")
+    public ResponseEntity<List<BatchExecutionResult>> executeBatch(
+            @RequestBody final List<BatchExecutionItem> batchExecutionItems) {
+        final List<BatchExecutionResult> results = executionBusinessLogic.executeBatch(batchExecutionItems);
+        return new ResponseEntity<>(results, HttpStatus.OK);
     }
 
 }
@@ -0,0 +1,79 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import org.onap.cps.tbdmt.model.BatchExecutionItem;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
+import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.service.ReactiveExecutionBusinessLogic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Execution endpoints of the reactive deployment, replacing {@link ExecutionController}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExecutionController {
+
+    @Autowired
+    private ReactiveExecutionBusinessLogic reactiveExecutionBusinessLogic;
+
+    /**
+     * Execute a template by model and templateId.
+     *
+     * @param model model to find the template
+     * @param templateId Id to find the template
+     * @param executionRequest execution request
+     * @return result of the execution
+     */
+    @PostMapping(path = "/execute/{model}/{templateId}")
+    public Mono<ResponseEntity<String>> executeTemplate(@Valid @PathVariable final String model,
+                                                        @Valid @PathVariable final String templateId,
+                                                        @Valid @RequestBody final ExecutionRequest executionRequest) {
+        return reactiveExecutionBusinessLogic.executeTemplate(model, templateId, executionRequest)
+            .map(result -> new ResponseEntity<>(result, HttpStatus.OK))
+            .defaultIfEmpty(new ResponseEntity<>(HttpStatus.OK));
+    }
+
+    /**
+     * Execute a batch of templates.
+     *
+     * @param batchExecutionItems templates to execute with their inputs
+     * @return result or error of every item, in the order of the items
+     */
+    @PostMapping(path = "/execute/batch")
+    public Mono<ResponseEntity<List<BatchExecutionResult>>> executeBatch(
+            @RequestBody final List<BatchExecutionItem> batchExecutionItems) {
+        return reactiveExecutionBusinessLogic.executeBatch(batchExecutionItems)
+            .map(results -> new ResponseEntity<>(results, HttpStatus.OK));
+    }
+
+}
@@ -0,0 +1,484 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.onap.cps.tbdmt.model.CompressionConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Compresses responses with gzip when the client accepts it and the body reaches the configured size.
+ * The body is held back until that size is reached, then compressed as it is written. A streamed
+ * response is decided at its first flush instead, so that every flushed part reaches the client at
+ * once, compressed with a sync flush, unless it announced its length and is thus written at once.
+ * Non-blocking writers get the response stream uncompressed.
+ * Records the compression ratio and the time spent compressing, to tune the threshold.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private static final String RESPONSE_ATTRIBUTE = ResponseCompressionFilter.class.getName() + ".response";
+
+    private final int minSize;
+
+    private final int level;
+
+    private final DistributionSummary ratio;
+
+    private final Timer encodingTimer;
+
+    private final Counter compressed;
+
+    private final Counter belowThreshold;
+
+    private final Counter notAccepted;
+
+    /**
+     * Create the filter.
+     *
+     * @param compressionConfiguration threshold and level of the compression
+     * @param meterRegistry registry for the compression metrics
+     */
+    public ResponseCompressionFilter(final CompressionConfiguration compressionConfiguration,
+                                     final MeterRegistry meterRegistry) {
+        minSize = compressionConfiguration.getResponseMinSize();
+        level = compressionConfiguration.getResponseLevel();
+        ratio = DistributionSummary.builder("tbdmt.execution.response.compression.ratio")
+            .description("Body size divided by the compressed size of the compressed responses")
+            .register(meterRegistry);
+        encodingTimer = Timer.builder("tbdmt.execution.response.encoding")
+            .description("Time spent compressing responses")
+            .register(meterRegistry);
+        compressed = decisionCounter("compressed", meterRegistry);
+        belowThreshold = decisionCounter("below_threshold", meterRegistry);
+        notAccepted = decisionCounter("not_accepted", meterRegistry);
+    }
+
+    private static Counter decisionCounter(final String decision, final MeterRegistry meterRegistry) {
+        return Counter.builder("tbdmt.execution.response.compression")
+            .description("Responses by compression decision")
+            .tag("decision", decision)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // streamed responses are completed by the async dispatch
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        CompressingResponse compressingResponse = (CompressingResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+        if (compressingResponse == null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (!acceptsGzip(request)) {
+                notAccepted.increment();
+                filterChain.doFilter(request, response);
+                return;
+            }
+            compressingResponse = new CompressingResponse(request, response);
+            request.setAttribute(RESPONSE_ATTRIBUTE, compressingResponse);
+        }
+        filterChain.doFilter(request, compressingResponse);
+        if (!request.isAsyncStarted()) {
+            request.removeAttribute(RESPONSE_ATTRIBUTE);
+            compressingResponse.finish();
+        }
+    }
+
+    private static boolean acceptsGzip(final HttpServletRequest request) {
+        final Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers != null && headers.hasMoreElements()) {
+            for (final String coding : headers.nextElement().split(",")) {
+                final String[] parameters = coding.split(";");
+                if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                    return parameters.length == 1 || !parameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    private class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private ThresholdOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        private long contentLength = -1;
+
+        CompressingResponse(final HttpServletRequest request, final HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            return outputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(outputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(final int length) {
+            // the length of the body is only known once it is decided whether it is compressed
+            contentLength = length;
+        }
+
+        @Override
+        public void setContentLengthLong(final long length) {
+            // the length of the body is only known once it is decided whether it is compressed
+            contentLength = length;
+        }
+
+        @Override
+        public void setHeader(final String name, final String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(final String name, final String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(final String name, final int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(final String name, final int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.flush();
+            }
+            if (outputStream == null || outputStream.isDecided()) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+            super.reset();
+        }
+
+        private ThresholdOutputStream outputStream() {
+            if (outputStream == null) {
+                outputStream = new ThresholdOutputStream(this);
+            }
+            return outputStream;
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            } else {
+                belowThreshold.increment();
+            }
+        }
+
+        HttpServletResponse response() {
+            return (HttpServletResponse) getResponse();
+        }
+
+        /**
+         * Whether the body is streamed, written by an asynchronous handler such as a
+         * StreamingResponseBody rather than at once by a message converter. An asynchronous body
+         * whose length was announced is complete when it is written, as a converted one is.
+         */
+        boolean isStreamed() {
+            return request.isAsyncStarted() && contentLength < 0;
+        }
+    }
+
+    private class ThresholdOutputStream extends ServletOutputStream {
+
+        private final CompressingResponse compressingResponse;
+
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.min(minSize, 8192));
+
+        private OutputStream target;
+
+        private TimedOutputStream encoded;
+
+        private long nanos;
+
+        private long bytes;
+
+        private boolean finished;
+
+        ThresholdOutputStream(final CompressingResponse compressingResponse) {
+            this.compressingResponse = compressingResponse;
+        }
+
+        boolean isDecided() {
+            return target != null;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            write(new byte[] {(byte) value}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] data, final int offset, final int length) throws IOException {
+            if (target == null) {
+                if (buffer.size() + length < minSize) {
+                    buffer.write(data, offset, length);
+                    return;
+                }
+                startCompression();
+            }
+            final long startTime = System.nanoTime();
+            try {
+                target.write(data, offset, length);
+                bytes += length;
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target == null) {
+                // a response written at once is flushed by its writer before it ends, a stream whenever
+                // the client is to receive what was written so far
+                if (!compressingResponse.isStreamed()) {
+                    return;
+                }
+                startCompression();
+            }
+            final long startTime = System.nanoTime();
+            try {
+                target.flush();
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            compressingResponse.response().getOutputStream().close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return !(target instanceof ServletOutputStream) || ((ServletOutputStream) target).isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            if (target != null || buffer == null || buffer.size() > 0) {
+                throw new IllegalStateException("Non-blocking writes must start before any body is written");
+            }
+            // the compressed stream writes whenever the deflater emits data, so a non-blocking writer
+            // gets the response stream itself, uncompressed
+            final ServletOutputStream outputStream;
+            try {
+                outputStream = compressingResponse.response().getOutputStream();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            target = outputStream;
+            buffer = null;
+            outputStream.setWriteListener(writeListener);
+        }
+
+        void resetBuffer() {
+            if (target == null) {
+                buffer.reset();
+            }
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            final HttpServletResponse response = compressingResponse.response();
+            if (target == null) {
+                belowThreshold.increment();
+                if (!response.isCommitted()) {
+                    response.setContentLength(buffer.size());
+                }
+                buffer.writeTo(response.getOutputStream());
+                buffer = null;
+                return;
+            }
+            if (encoded == null) {
+                return;
+            }
+            final long startTime = System.nanoTime();
+            try {
+                ((GZIPOutputStream) target).finish();
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+            compressed.increment();
+            if (encoded.bytes > 0) {
+                ratio.record((double) bytes / encoded.bytes);
+            }
+            encodingTimer.record(Math.max(0, nanos - encoded.nanos), TimeUnit.NANOSECONDS);
+        }
+
+        private void startCompression() throws IOException {
+            final HttpServletResponse response = compressingResponse.response();
+            if (response.containsHeader(HttpHeaders.CONTENT_ENCODING) || response.isCommitted()) {
+                target = response.getOutputStream();
+            } else {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                encoded = new TimedOutputStream(response.getOutputStream());
+                target = new LeveledGzipOutputStream(encoded, level);
+            }
+            final byte[] buffered = buffer.toByteArray();
+            buffer = null;
+            final long startTime = System.nanoTime();
+            try {
+                target.write(buffered);
+                bytes += buffered.length;
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+    }
+
+    private static class TimedOutputStream extends FilterOutputStream {
+
+        long bytes;
+
+        long nanos;
+
+        TimedOutputStream(final OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            write(new byte[] {(byte) value}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] data, final int offset, final int length) throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                out.write(data, offset, length);
+                bytes += length;
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                out.flush();
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+    }
+
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(final OutputStream outputStream, final int level) throws IOException {
+            // flushing emits the data compressed so far, as streamed responses expect
+            super(outputStream, 8192, true);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import java.util.concurrent.TimeUnit;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.PassThroughConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs streamed responses, pass-through reads and newline delimited JSON, on a bounded pool of their
+ * own. A stream holds its thread while it waits for CPS, so the pool is sized by
+ * app.passThrough.streamThreads rather than shared with the application task executor, and streams
+ * time out after app.passThrough.streamTimeoutSeconds rather than after the default of the container.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StreamingConfiguration {
+
+    /**
+     * Pool writing the streamed responses. Streams beyond its threads and its queue are rejected and
+     * answered with 503. Spring Boot's application task executor backs off in its favour.
+     *
+     * @param appConfiguration application configuration
+     * @return executor of the streams
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamTaskExecutor(final AppConfiguration appConfiguration) {
+        final PassThroughConfiguration passThroughConfiguration = appConfiguration.getPassThrough();
+        final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(passThroughConfiguration.getStreamThreads());
+        threadPoolTaskExecutor.setMaxPoolSize(passThroughConfiguration.getStreamThreads());
+        threadPoolTaskExecutor.setQueueCapacity(passThroughConfiguration.getStreamQueueCapacity());
+        threadPoolTaskExecutor.setThreadNamePrefix("tbdmt-stream-");
+        return threadPoolTaskExecutor;
+    }
+
+    /**
+     * Let Spring MVC run the asynchronous requests on the stream pool, with the stream timeout.
+     *
+     * @param appConfiguration application configuration
+     * @param streamTaskExecutor executor of the streams
+     * @return configurer of Spring MVC
+     */
+    @Bean
+    public WebMvcConfigurer streamingWebMvcConfigurer(final AppConfiguration appConfiguration,
+                                                      final ThreadPoolTaskExecutor streamTaskExecutor) {
+        final long timeoutMillis =
+            TimeUnit.SECONDS.toMillis(appConfiguration.getPassThrough().getStreamTimeoutSeconds());
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer asyncSupportConfigurer) {
+                asyncSupportConfigurer.setTaskExecutor(streamTaskExecutor);
+                asyncSupportConfigurer.setDefaultTimeout(timeoutMillis);
+            }
+        };
+    }
+}
@@ -27,6 +27,7 @@ import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
 import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.model.TemplateKey;
 import org.onap.cps.tbdmt.model.TemplateRequest;
+import org.onap.cps.tbdmt.model.TransformPlan;
 import org.onap.cps.tbdmt.service.TemplateBusinessLogic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -78,6 +79,18 @@ public class TemplateController {
 
     }
 
+    /**
+     * Get the transform push-down plan of a template.
+     *
+     * @param templateId Id to find the template
+     * @return plan with its verification status and the data it saves
+     */
+    @GetMapping(path = "/templates/{templateId}/transform-plan")
+    public ResponseEntity<TransformPlan> getTransformPlan(@PathVariable final String templateId) {
+        return new ResponseEntity<>(templateBusinessLogic.getTransformPlan(new TemplateKey(templateId)),
+            HttpStatus.OK);
+    }
+
     /**
      * Delete Template by templateId.
      *
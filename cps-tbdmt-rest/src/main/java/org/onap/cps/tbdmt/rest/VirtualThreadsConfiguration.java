@@ -0,0 +1,62 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import java.util.concurrent.Executor;
+import org.eclipse.jetty.util.VirtualThreads.Configurable;
+import org.onap.cps.tbdmt.service.VirtualThreads;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Handles requests on virtual threads when app.virtualThreads is enabled, so that a request waiting
+ * for CPS does not hold a platform thread.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app", name = "virtual-threads", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    /**
+     * Let Jetty run the blocking handling of requests on virtual threads, with the default virtual thread
+     * executor of Jetty as Spring Boot does. Selectors and acceptors stay on the thread pool sized through
+     * server.jetty.threads.
+     *
+     * @return customizer of the Jetty server
+     */
+    @Bean
+    public WebServerFactoryCustomizer<JettyServletWebServerFactory> virtualThreadsCustomizer() {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException("app.virtualThreads requires Java 21 or later, running on Java "
+                + Runtime.version().feature());
+        }
+        // named in full, the VirtualThreads of the service being imported
+        final Executor virtualThreadsExecutor =
+            org.eclipse.jetty.util.VirtualThreads.getDefaultVirtualThreadsExecutor();
+        return factory -> factory.addServerCustomizers(server -> {
+            if (server.getThreadPool() instanceof Configurable) {
+                ((Configurable) server.getThreadPool()).setVirtualThreadsExecutor(virtualThreadsExecutor);
+            }
+        });
+    }
+}
@@ -20,29 +20,41 @@
 
 package org.onap.cps.tbdmt.rest;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.onap.cps.tbdmt.exception.BatchLimitExceededException;
 import org.onap.cps.tbdmt.exception.ExecuteException;
 import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
+import org.onap.cps.tbdmt.model.ErrorResponse;
 import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.service.ExecutionBusinessLogic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 
 @RunWith(SpringRunner.class)
@@ -68,9 +80,8 @@ public class ExecutionControllerTest {
     public void setup() throws Exception {
         executePath = "/execute/ran-network/getNbr";
         final Map<String, String> inputParameters = new HashMap<>();
-        final Map<String, Object> payload = new HashMap<>();
         inputParameters.put("coverageArea", "Zone 1");
-        final ExecutionRequest executionRequest = new ExecutionRequest(inputParameters, payload);
+        final ExecutionRequest executionRequest = new ExecutionRequest(inputParameters, RawJson.of("{}"));
         final ObjectMapper objectMapper = new ObjectMapper();
         executionRequestJson = objectMapper.writeValueAsString(executionRequest);
     }
@@ -79,17 +90,22 @@ public class ExecutionControllerTest {
     public void testExecuteTemplate() throws Exception {
         final String result = "{\"key\": \"value\"}";
         Mockito.when(executionBusinessLogic
-            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.<Template>any(),
                 ArgumentMatchers.any()))
             .thenReturn(result);
-        mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
+        final MvcResult mvcResult = mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
             .characterEncoding(UTF8)
             .content(executionRequestJson).accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, result.length()))
             .andExpect(content().string(result));
 
         Mockito.when(executionBusinessLogic
-            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.<Template>any(),
                 ArgumentMatchers.any()))
             .thenThrow(new TemplateNotFoundException("Template does not exist"));
         mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
@@ -103,6 +119,73 @@ public class ExecutionControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void testExecuteTemplatePassThrough() throws Exception {
+        final String result = "{\"key\": \"value\"}";
+        Mockito.when(executionBusinessLogic
+            .passThrough(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(Optional.of(outputStream -> outputStream.write(result.getBytes(StandardCharsets.UTF_8))));
+        final MvcResult mvcResult = mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
+            .characterEncoding(UTF8)
+            .content(executionRequestJson).accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().string(result));
+        Mockito.verify(executionBusinessLogic, Mockito.never()).executeTemplate(ArgumentMatchers.any(),
+            ArgumentMatchers.<Template>any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testExecuteTemplatePassThroughException() throws Exception {
+        final String responseJson = "{\n"
+            + "  \"message\": \"Error while executing template\",\n"
+            + "  \"details\": [\"Response code from CPS other than 200: 404\"]\n"
+            + "}";
+        Mockito.when(executionBusinessLogic
+            .passThrough(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(Optional.of(outputStream -> {
+                throw new ExecuteException("Response code from CPS other than 200: 404");
+            }));
+        final MvcResult mvcResult = mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
+            .characterEncoding(UTF8)
+            .content(executionRequestJson).accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().json(responseJson));
+    }
+
+    @Test
+    public void testExecuteTemplateAsNdjson() throws Exception {
+        final String result = "{\"key\": \"value\"}\n{\"key\": \"other\"}\n";
+        Mockito.when(executionBusinessLogic.streamTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.eq(true)))
+            .thenReturn(outputStream -> outputStream.write(result.getBytes(StandardCharsets.UTF_8)));
+        final MvcResult mvcResult = mockMvc.perform(post(executePath).param("ordered", "true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .characterEncoding(UTF8)
+            .content(executionRequestJson).accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(result));
+
+        Mockito.when(executionBusinessLogic.streamTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.anyBoolean()))
+            .thenThrow(new TemplateNotFoundException("Template does not exist"));
+        mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
+            .characterEncoding(UTF8)
+            .content(executionRequestJson).accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(status().isNotFound())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
     @Test
     public void testExecuteTemplateBadRequest() throws Exception {
         mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
@@ -113,9 +196,7 @@ public class ExecutionControllerTest {
 
     @Test
     public void testExecuteTemplateNotFound() throws Exception {
-        Mockito.when(executionBusinessLogic
-            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(),
-                ArgumentMatchers.any()))
+        Mockito.when(executionBusinessLogic.getTemplate(ArgumentMatchers.any()))
             .thenThrow(new TemplateNotFoundException("Template does not exist"));
         mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
             .characterEncoding(UTF8)
@@ -123,6 +204,33 @@ public class ExecutionControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void testExecuteBatch() throws Exception {
+        final List<BatchExecutionResult> results = List.of(
+            new BatchExecutionResult("ran-network", "getNbr", "{\"key\": \"value\"}", null),
+            new BatchExecutionResult("ran-network", "getCells", null,
+                new ErrorResponse("Template Not found", List.of("Template does not exist"))));
+        final String responseJson = "[{\"model\": \"ran-network\", \"templateId\": \"getNbr\","
+            + " \"result\": {\"key\": \"value\"}},"
+            + " {\"model\": \"ran-network\", \"templateId\": \"getCells\", \"error\":"
+            + " {\"message\": \"Template Not found\", \"details\": [\"Template does not exist\"]}}]";
+        Mockito.when(executionBusinessLogic.executeBatch(ArgumentMatchers.any())).thenReturn(results);
+        mockMvc.perform(post("/execute/batch").contentType(MediaType.APPLICATION_JSON)
+            .characterEncoding(UTF8)
+            .content("[{\"model\": \"ran-network\", \"templateId\": \"getNbr\"},"
+                + " {\"model\": \"ran-network\", \"templateId\": \"getCells\"}]")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(responseJson, true));
+
+        Mockito.when(executionBusinessLogic.executeBatch(ArgumentMatchers.any()))
+            .thenThrow(new BatchLimitExceededException("Batch must not have more than 100 items"));
+        mockMvc.perform(post("/execute/batch").contentType(MediaType.APPLICATION_JSON)
+            .characterEncoding(UTF8)
+            .content("[]").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testExecuteTemplateException() throws Exception {
         final String responseJson = "{\n"
@@ -131,7 +239,7 @@ public class ExecutionControllerTest {
             + "}";
 
         Mockito.when(executionBusinessLogic
-            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.<Template>any(),
                 ArgumentMatchers.any()))
             .thenThrow(new ExecuteException("Response from CPS other than 200: 404"));
         mockMvc.perform(post(executePath).contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,122 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.onap.cps.tbdmt.exception.BatchLimitExceededException;
+import org.onap.cps.tbdmt.exception.ExecuteException;
+import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
+import org.onap.cps.tbdmt.service.ReactiveExecutionBusinessLogic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@RunWith(SpringRunner.class)
+@WebFluxTest(ReactiveExecutionController.class)
+public class ReactiveExecutionControllerTest {
+
+    private static final String EXECUTE_PATH = "/execute/ran-network/getNbr";
+
+    private static final String EXECUTION_REQUEST_JSON = "{\"inputParameters\": {\"coverageArea\": \"Zone 1\"}}";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveExecutionBusinessLogic reactiveExecutionBusinessLogic;
+
+    @Test
+    public void testExecuteTemplate() {
+        final String result = "{\"key\": \"value\"}";
+        Mockito.when(reactiveExecutionBusinessLogic
+            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(Mono.just(result));
+        webTestClient.post().uri(EXECUTE_PATH).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(EXECUTION_REQUEST_JSON).accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo(result);
+    }
+
+    @Test
+    public void testExecuteTemplateNotFound() {
+        Mockito.when(reactiveExecutionBusinessLogic
+            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(Mono.error(new TemplateNotFoundException("Template does not exist")));
+        webTestClient.post().uri(EXECUTE_PATH).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(EXECUTION_REQUEST_JSON).accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody().jsonPath("$.message").isEqualTo("Template Not found");
+    }
+
+    @Test
+    public void testExecuteTemplateException() {
+        final String responseJson = "{\"message\": \"Error while executing template\","
+            + " \"details\": [\"Response from CPS other than 200: 404\"]}";
+        Mockito.when(reactiveExecutionBusinessLogic
+            .executeTemplate(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(Mono.error(new ExecuteException("Response from CPS other than 200: 404")));
+        webTestClient.post().uri(EXECUTE_PATH).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(EXECUTION_REQUEST_JSON).accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().json(responseJson);
+    }
+
+    @Test
+    public void testExecuteTemplateBadRequest() {
+        webTestClient.post().uri(EXECUTE_PATH).contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"bad\": \"request\"").accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testExecuteBatch() {
+        Mockito.when(reactiveExecutionBusinessLogic.executeBatch(ArgumentMatchers.any()))
+            .thenReturn(Mono.just(List.of(
+                new BatchExecutionResult("ran-network", "getNbr", "{\"key\": \"value\"}", null))));
+        webTestClient.post().uri("/execute/batch").contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("[{\"model\": \"ran-network\", \"templateId\": \"getNbr\"}]")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().json("[{\"model\": \"ran-network\", \"templateId\": \"getNbr\","
+                + " \"result\": {\"key\": \"value\"}}]");
+
+        Mockito.when(reactiveExecutionBusinessLogic.executeBatch(ArgumentMatchers.any()))
+            .thenReturn(Mono.error(new BatchLimitExceededException("Batch must not have more than 100 items")));
+        webTestClient.post().uri("/execute/batch").contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("[]").accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,221 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.onap.cps.tbdmt.model.CompressionConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ResponseCompressionFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResponseCompressionFilter responseCompressionFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        final CompressionConfiguration compressionConfiguration = new CompressionConfiguration();
+        compressionConfiguration.setResponseMinSize(64);
+        responseCompressionFilter = new ResponseCompressionFilter(compressionConfiguration, meterRegistry);
+        request = new MockHttpServletRequest("POST", "/execute/ran-network/getNbr");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    public void testCompressesAboveThreshold() throws Exception {
+        final byte[] body = "[{\"key\": \"value\"}]".repeat(20).getBytes(StandardCharsets.UTF_8);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+        responseCompressionFilter.doFilter(request, response, new MockFilterChain(new BodyServlet(body, 7)));
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        try (GZIPInputStream inputStream =
+                 new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(body, inputStream.readAllBytes());
+        }
+        assertEquals(1, meterRegistry.get("tbdmt.execution.response.compression").tag("decision", "compressed")
+            .counter().count(), 0);
+        assertEquals((double) body.length / response.getContentAsByteArray().length,
+            meterRegistry.get("tbdmt.execution.response.compression.ratio").summary().totalAmount(), 0.001);
+        assertEquals(1, meterRegistry.get("tbdmt.execution.response.encoding").timer().count());
+    }
+
+    @Test
+    public void testKeepsSmallResponses() throws Exception {
+        final byte[] body = "[{\"key\": \"value\"}]".getBytes(StandardCharsets.UTF_8);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        responseCompressionFilter.doFilter(request, response, new MockFilterChain(new BodyServlet(body, 4)));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(body, response.getContentAsByteArray());
+        assertEquals(body.length, response.getContentLength());
+        assertEquals(1, meterRegistry.get("tbdmt.execution.response.compression").tag("decision", "below_threshold")
+            .counter().count(), 0);
+    }
+
+    @Test
+    public void testKeepsResponsesNotAccepted() throws Exception {
+        final byte[] body = "[{\"key\": \"value\"}]".repeat(20).getBytes(StandardCharsets.UTF_8);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate");
+        responseCompressionFilter.doFilter(request, response, new MockFilterChain(new BodyServlet(body, 7)));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(body, response.getContentAsByteArray());
+        assertEquals(1, meterRegistry.get("tbdmt.execution.response.compression").tag("decision", "not_accepted")
+            .counter().count(), 0);
+    }
+
+    @Test
+    public void testFlushedLineOfStreamReachesClient() throws Exception {
+        final byte[] line = "{\"key\": \"value\"}\n".getBytes(StandardCharsets.UTF_8);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.setAsyncSupported(true);
+        responseCompressionFilter.doFilter(request, response, new MockFilterChain(new StreamServlet(line)));
+
+        assertTrue(request.isAsyncStarted());
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream inputStream =
+                 new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(line, inputStream.readNBytes(line.length));
+        }
+    }
+
+    @Test
+    public void testAnnouncedLengthIsNotPassedOnWhenCompressed() throws Exception {
+        final byte[] body = "[{\"key\": \"value\"}]".repeat(20).getBytes(StandardCharsets.UTF_8);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        responseCompressionFilter.doFilter(request, response,
+            new MockFilterChain(new BodyServlet(body, body.length, false, true)));
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        try (GZIPInputStream inputStream =
+                 new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(body, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testStreamedResponseOfAnnouncedLengthIsWrittenAtOnce() throws Exception {
+        final byte[] body = "[{\"key\": \"value\"}]".getBytes(StandardCharsets.UTF_8);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.setAsyncSupported(true);
+        responseCompressionFilter.doFilter(request, response,
+            new MockFilterChain(new BodyServlet(body, body.length, true, true)));
+
+        assertTrue(request.isAsyncStarted());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        request.setAsyncStarted(false);
+        responseCompressionFilter.doFilter(request, response, new MockFilterChain());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(body, response.getContentAsByteArray());
+        assertEquals(body.length, response.getContentLength());
+        assertEquals(1, meterRegistry.get("tbdmt.execution.response.compression").tag("decision", "below_threshold")
+            .counter().count(), 0);
+    }
+
+    private static class StreamServlet extends HttpServlet {
+
+        private final byte[] line;
+
+        StreamServlet(final byte[] line) {
+            this.line = line;
+        }
+
+        @Override
+        protected void service(final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException {
+            request.startAsync();
+            response.setContentType("application/x-ndjson");
+            response.getOutputStream().write(line);
+            response.getOutputStream().flush();
+        }
+    }
+
+    private static class BodyServlet extends HttpServlet {
+
+        private final byte[] body;
+
+        private final int chunkSize;
+
+        private final boolean async;
+
+        private final boolean lengthHeader;
+
+        BodyServlet(final byte[] body, final int chunkSize) {
+            this(body, chunkSize, false, false);
+        }
+
+        BodyServlet(final byte[] body, final int chunkSize, final boolean async, final boolean lengthHeader) {
+            this.body = body;
+            this.chunkSize = chunkSize;
+            this.async = async;
+            this.lengthHeader = lengthHeader;
+        }
+
+        @Override
+        protected void service(final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException {
+            if (async) {
+                request.startAsync();
+            }
+            response.setContentType("application/json");
+            if (lengthHeader) {
+                // as Spring MVC announces the length of a ResponseEntity
+                response.addHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(body.length));
+            } else {
+                response.setContentLength(body.length);
+            }
+            for (int offset = 0; offset < body.length; offset += chunkSize) {
+                response.getOutputStream().write(body, offset, Math.min(chunkSize, body.length - offset));
+                response.getOutputStream().flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+
+public class StreamingConfigurationTest {
+
+    private final StreamingConfiguration streamingConfiguration = new StreamingConfiguration();
+
+    private AppConfiguration appConfiguration;
+
+    private ThreadPoolTaskExecutor streamTaskExecutor;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        appConfiguration = new AppConfiguration();
+        appConfiguration.getPassThrough().setStreamThreads(2);
+        appConfiguration.getPassThrough().setStreamQueueCapacity(1);
+        appConfiguration.getPassThrough().setStreamTimeoutSeconds(900);
+        streamTaskExecutor = streamingConfiguration.streamTaskExecutor(appConfiguration);
+        streamTaskExecutor.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        streamTaskExecutor.shutdown();
+    }
+
+    @Test
+    public void testAsyncSupportUsesStreamPoolAndTimeout() {
+        final AsyncSupportConfigurer asyncSupportConfigurer = new AsyncSupportConfigurer();
+        streamingConfiguration.streamingWebMvcConfigurer(appConfiguration, streamTaskExecutor)
+            .configureAsyncSupport(asyncSupportConfigurer);
+        assertSame(streamTaskExecutor, ReflectionTestUtils.getField(asyncSupportConfigurer, "taskExecutor"));
+        assertEquals(900_000L, ReflectionTestUtils.getField(asyncSupportConfigurer, "timeout"));
+        assertEquals(2, streamTaskExecutor.getCorePoolSize());
+        assertEquals(2, streamTaskExecutor.getMaxPoolSize());
+    }
+
+    @Test
+    public void testStreamsRunConcurrentlyUpToPoolThenQueueThenAreRejected() throws Exception {
+        final CountDownLatch running = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch queuedStarted = new CountDownLatch(1);
+        final Runnable stream = () -> {
+            running.countDown();
+            await(release);
+        };
+        streamTaskExecutor.execute(stream);
+        streamTaskExecutor.execute(stream);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        streamTaskExecutor.execute(queuedStarted::countDown);
+        assertFalse(queuedStarted.await(100, TimeUnit.MILLISECONDS));
+        assertThrows(TaskRejectedException.class, () -> streamTaskExecutor.execute(stream));
+
+        release.countDown();
+        assertTrue(queuedStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
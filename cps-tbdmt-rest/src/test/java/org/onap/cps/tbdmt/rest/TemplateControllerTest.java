@@ -35,9 +35,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.onap.cps.tbdmt.exception.TemplateDependencyException;
 import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
 import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.model.TemplateRequest;
+import org.onap.cps.tbdmt.model.TransformPlan;
 import org.onap.cps.tbdmt.service.TemplateBusinessLogic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -82,6 +84,20 @@ public class TemplateControllerTest {
             .andExpect(content().json(templateJson));
     }
 
+    @Test
+    public void testCreateTemplateWithCycle() throws Exception {
+        final TemplateRequest templateRequest = new TemplateRequest("getNbr", "ran-network", "sample", "get",
+                        true, "getNbr", "getRIC");
+        Mockito.when(templateBusinessLogic.createTemplate(ArgumentMatchers.any()))
+            .thenThrow(new TemplateDependencyException("Template dependencies form a cycle: getNbr -> getNbr"));
+        mockMvc.perform(
+            post("/templates").contentType(MediaType.APPLICATION_JSON).characterEncoding(UTF8)
+                .content(objectMapper.writeValueAsString(templateRequest)).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().json("{\"message\": \"Validation Failed\","
+                + " \"details\": [\"Template dependencies form a cycle: getNbr -> getNbr\"]}"));
+    }
+
     @Test
     public void testCreateTemplateBadRequest() throws Exception {
         final TemplateRequest emptyTemplateRequest = new TemplateRequest();
@@ -130,6 +146,19 @@ public class TemplateControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void testGetTransformPlan() throws Exception {
+        final TransformPlan transformPlan = new TransformPlan();
+        transformPlan.setTemplateId("getNbr");
+        transformPlan.setStatus("active");
+        transformPlan.setXpathSuffix("/branch");
+        transformPlan.setSavedSize(4096);
+        Mockito.when(templateBusinessLogic.getTransformPlan(ArgumentMatchers.any())).thenReturn(transformPlan);
+        mockMvc.perform(get("/templates/getNbr/transform-plan").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(objectMapper.writeValueAsString(transformPlan)));
+    }
+
     @Test
     public void testDeleteTemplate() throws Exception {
         Mockito.doNothing().when(templateBusinessLogic).deleteTemplate(ArgumentMatchers.any());
@@ -0,0 +1,134 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.entity.DeflateInputStreamFactory;
+import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.apache.hc.client5.http.entity.InputStreamFactory;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.HttpClientConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Pooled, keep-alive HTTP transport shared by all requests towards CPS and NCMP.
+ */
+@Configuration
+public class CpsHttpClientConfiguration {
+
+    private static final String POOL_NAME = "cps";
+
+    /**
+     * Connection pool towards CPS and NCMP.
+     *
+     * @param appConfiguration application configuration
+     * @param meterRegistry registry for the pool metrics
+     * @return connection manager
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager cpsConnectionManager(final AppConfiguration appConfiguration,
+                                                                   final MeterRegistry meterRegistry) {
+        final HttpClientConfiguration httpClientConfiguration = appConfiguration.getHttpClient();
+        final Timer leaseTimer = Timer.builder("tbdmt.cps.connection.lease")
+            .description("Time spent waiting to lease a connection from the CPS connection pool")
+            .tag("pool", POOL_NAME)
+            .register(meterRegistry);
+        final PoolingHttpClientConnectionManager connectionManager = new InstrumentedConnectionManager(leaseTimer);
+        connectionManager.setMaxTotal(httpClientConfiguration.getMaxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(httpClientConfiguration.getMaxConnectionsPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(httpClientConfiguration.getConnectTimeoutMillis()))
+            .setSocketTimeout(Timeout.ofMilliseconds(httpClientConfiguration.getReadTimeoutMillis()))
+            .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * HTTP client on top of the shared connection pool.
+     *
+     * @param appConfiguration application configuration
+     * @param cpsConnectionManager connection pool towards CPS and NCMP
+     * @param meterRegistry registry for the compression metrics
+     * @return http client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient cpsHttpClient(final AppConfiguration appConfiguration,
+                                             final PoolingHttpClientConnectionManager cpsConnectionManager,
+                                             final MeterRegistry meterRegistry) {
+        final HttpClientConfiguration httpClientConfiguration = appConfiguration.getHttpClient();
+        final HttpClientBuilder httpClientBuilder = HttpClients.custom();
+        if (appConfiguration.getCompression().isCpsEnabled()) {
+            httpClientBuilder.setContentDecoderRegistry(contentDecoders(meterRegistry));
+        } else {
+            httpClientBuilder.disableContentCompression();
+        }
+        return httpClientBuilder
+            .setConnectionManager(cpsConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(
+                    Timeout.ofMilliseconds(httpClientConfiguration.getConnectionRequestTimeoutMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(httpClientConfiguration.getReadTimeoutMillis()))
+                .setDefaultKeepAlive(httpClientConfiguration.getKeepAliveSeconds(), TimeUnit.SECONDS)
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(httpClientConfiguration.getIdleEvictionSeconds()))
+            .build();
+    }
+
+    /**
+     * Decoders of the encodings accepted from CPS, in order of preference. Responses are decoded as
+     * they are read.
+     *
+     * @param meterRegistry registry for the compression metrics
+     * @return decoder by encoding
+     */
+    static LinkedHashMap<String, InputStreamFactory> contentDecoders(final MeterRegistry meterRegistry) {
+        final LinkedHashMap<String, InputStreamFactory> contentDecoders = new LinkedHashMap<>();
+        contentDecoders.put("gzip",
+            new MeteredInputStreamFactory("gzip", GZIPInputStreamFactory.getInstance(), meterRegistry));
+        contentDecoders.put("x-gzip",
+            new MeteredInputStreamFactory("gzip", GZIPInputStreamFactory.getInstance(), meterRegistry));
+        contentDecoders.put("deflate",
+            new MeteredInputStreamFactory("deflate", DeflateInputStreamFactory.getInstance(), meterRegistry));
+        return contentDecoders;
+    }
+
+    @Bean
+    public RestTemplate restTemplate(final CloseableHttpClient cpsHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(cpsHttpClient));
+    }
+}
@@ -0,0 +1,167 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.onap.cps.tbdmt.model.CpsConfiguration;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Parts of the requests towards one CPS backend which do not depend on the call: the encoded URI of
+ * every API path around its anchor, the encoded credentials and the headers. Built once per
+ * configuration of the backend, so that a call only encodes its anchor and query parameters.
+ */
+final class CpsRequestPrototype {
+
+    private static final String ANCHOR_VARIABLE = "{anchor}";
+
+    private final String url;
+
+    private final String username;
+
+    private final String password;
+
+    private final Map<String, EncodedPath> uriByPath;
+
+    private final HttpHeaders readHeaders;
+
+    private final HttpHeaders writeHeaders;
+
+    private final HttpEntity<String> readEntity;
+
+    private CpsRequestPrototype(final CpsConfiguration cpsConfiguration, final List<String> paths) {
+        url = cpsConfiguration.getUrl();
+        username = cpsConfiguration.getUsername();
+        password = cpsConfiguration.getPassword();
+        final UriComponentsBuilder baseUri = UriComponentsBuilder.fromHttpUrl(url);
+        final Map<String, EncodedPath> uris = new HashMap<>();
+        for (final String path : paths) {
+            // the template is encoded around its variable, which is left for the anchor of every call
+            final String uri = baseUri.cloneBuilder().path(path).encode().build().toUriString();
+            final int anchorIndex = uri.indexOf(ANCHOR_VARIABLE);
+            uris.put(path, new EncodedPath(uri.substring(0, anchorIndex),
+                uri.substring(anchorIndex + ANCHOR_VARIABLE.length())));
+        }
+        uriByPath = Map.copyOf(uris);
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.setBasicAuth(username, password);
+        readHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        writeHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+        readEntity = new HttpEntity<>(readHeaders);
+    }
+
+    /**
+     * Build the request prototype of a backend.
+     *
+     * @param cpsConfiguration configuration of the backend
+     * @param paths API paths, relative to the URL of the backend
+     * @return request prototype
+     */
+    static CpsRequestPrototype of(final CpsConfiguration cpsConfiguration, final List<String> paths) {
+        return new CpsRequestPrototype(cpsConfiguration, paths);
+    }
+
+    /**
+     * Whether the prototype still matches the configuration of its backend.
+     *
+     * @param cpsConfiguration current configuration of the backend
+     * @return true if the prototype was built from the same values
+     */
+    boolean isBuiltFrom(final CpsConfiguration cpsConfiguration) {
+        return Objects.equals(url, cpsConfiguration.getUrl())
+            && Objects.equals(username, cpsConfiguration.getUsername())
+            && Objects.equals(password, cpsConfiguration.getPassword());
+    }
+
+    /**
+     * URI of a call, encoded as UriComponents encodes the anchor and the values of the query parameters.
+     *
+     * @param path one of the API paths of the prototype
+     * @param anchor anchor
+     * @param queryParams names and values of the query parameters, in turn; the names are not encoded
+     * @return uri
+     */
+    URI uri(final String path, final String anchor, final String... queryParams) {
+        final EncodedPath encodedPath = uriByPath.get(path);
+        final StringBuilder uri = new StringBuilder(256).append(encodedPath.beforeAnchor);
+        if (anchor != null) {
+            uri.append(UriUtils.encodePath(anchor, StandardCharsets.UTF_8));
+        }
+        uri.append(encodedPath.afterAnchor);
+        for (int index = 0; index < queryParams.length; index += 2) {
+            uri.append(index == 0 ? '?' : '&').append(queryParams[index]);
+            if (queryParams[index + 1] != null) {
+                uri.append('=').append(UriUtils.encodeQueryParam(queryParams[index + 1], StandardCharsets.UTF_8));
+            }
+        }
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * Accept and Authorization headers of the requests without a body.
+     *
+     * @return read-only headers
+     */
+    HttpHeaders getReadHeaders() {
+        return readHeaders;
+    }
+
+    /**
+     * Accept, Authorization and Content-Type headers of the requests with a JSON body.
+     *
+     * @return read-only headers
+     */
+    HttpHeaders getWriteHeaders() {
+        return writeHeaders;
+    }
+
+    /**
+     * Entity of the requests without a body.
+     *
+     * @return entity
+     */
+    HttpEntity<String> getReadEntity() {
+        return readEntity;
+    }
+
+    private static class EncodedPath {
+
+        private final String beforeAnchor;
+
+        private final String afterAnchor;
+
+        EncodedPath(final String beforeAnchor, final String afterAnchor) {
+            this.beforeAnchor = beforeAnchor;
+            this.afterAnchor = afterAnchor;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.CpsConfiguration;
+
+/**
+ * Request prototype of each backend, rebuilt when the configuration of the backend changes.
+ */
+final class CpsRequestPrototypes {
+
+    private static final String CPS_CORE = "cpsCore";
+
+    private static final String NCMP = "ncmp";
+
+    private final List<String> paths;
+
+    private final ConcurrentMap<String, CpsRequestPrototype> prototypes = new ConcurrentHashMap<>();
+
+    CpsRequestPrototypes(final String... paths) {
+        this.paths = List.of(paths);
+    }
+
+    /**
+     * Request prototype of the configured backend.
+     *
+     * @param appConfiguration application configuration
+     * @return request prototype
+     */
+    CpsRequestPrototype forBackend(final AppConfiguration appConfiguration) {
+        final boolean cpsCore = CPS_CORE.equals(appConfiguration.getCpsClient());
+        final CpsConfiguration cpsConfiguration = cpsCore
+            ? appConfiguration.getCpsCoreConfiguration() : appConfiguration.getNcmpConfiguration();
+        final String backend = cpsCore ? CPS_CORE : NCMP;
+        final CpsRequestPrototype prototype = prototypes.get(backend);
+        if (prototype != null && prototype.isBuiltFrom(cpsConfiguration)) {
+            return prototype;
+        }
+        return prototypes.compute(backend, (key, existing) -> existing != null && existing.isBuiltFrom(cpsConfiguration)
+            ? existing : CpsRequestPrototype.of(cpsConfiguration, paths));
+    }
+}
@@ -20,23 +20,26 @@
 
 package org.onap.cps.tbdmt.client;
 
-import java.util.Arrays;
-import java.util.Map;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import org.apache.commons.lang3.StringUtils;
 import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.exception.ResponseTooLargeException;
+import org.onap.cps.tbdmt.json.RawJson;
 import org.onap.cps.tbdmt.model.AppConfiguration;
-import org.onap.cps.tbdmt.model.CpsConfiguration;
+import org.onap.cps.tbdmt.model.ResponseSpillConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 public class CpsRestClient {
@@ -49,12 +52,22 @@ public class CpsRestClient {
 
     private static final String LIST_NODE_API_PATH = "/anchors/{anchor}/list-nodes";
 
+    private static final String SUCCESS = "success";
+
+    private static final String ERROR = "error";
+
+    private final CpsRequestPrototypes requestPrototypes = new CpsRequestPrototypes(NODES_API_PATH, QUERY_API_PATH,
+        POST_API_PATH, LIST_NODE_API_PATH);
+
     @Autowired
     private RestTemplate restTemplate;
 
     @Autowired
     private AppConfiguration appConfiguration;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Fetch node from the CPS using xpath.
      *
@@ -64,49 +77,144 @@ public class CpsRestClient {
      */
     public String fetchNode(final String anchor, final String xpath,
         final String requestType, final Boolean includeDescendants) throws CpsClientException {
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
-
-        final CpsConfiguration cpsConfiguration = "cpsCore".equals(appConfiguration.getCpsClient())
-            ? appConfiguration.getCpsCoreConfiguration() : appConfiguration.getNcmpConfiguration();
-        String path = NODES_API_PATH;
-        switch (requestType) {
-            case "query-cps-path":
-                queryParams.add("cps-path", xpath);
-                path = QUERY_API_PATH;
-                break;
-            case "query":
-                queryParams.add("xpath", xpath);
-                path = QUERY_API_PATH;
-                break;
-            default:
-                queryParams.add("xpath", xpath);
-        }
-        queryParams.add("include-descendants", includeDescendants.toString());
-        final String uri = buildCpsUrl(cpsConfiguration.getUrl(), path, anchor, queryParams);
-
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
-
-        headers.setBasicAuth(cpsConfiguration.getUsername(), cpsConfiguration.getPassword());
-        final HttpEntity<String> entity = new HttpEntity<>(headers);
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final URI uri = readUri(requestPrototype, anchor, xpath, requestType, includeDescendants);
+        final HttpEntity<String> entity = requestPrototype.getReadEntity();
 
+        final Timer.Sample sample = Timer.start(meterRegistry);
         ResponseEntity<String> responseEntity = null;
         try {
             responseEntity = restTemplate.exchange(uri, HttpMethod.GET, entity, String.class);
         } catch (final Exception e) {
+            recordRequest(sample, requestType, ERROR);
             throw new CpsClientException(e.getLocalizedMessage());
         }
 
         final int statusCode = responseEntity.getStatusCodeValue();
 
         if (statusCode == 200) {
+            recordRequest(sample, requestType, SUCCESS);
+            recordResponseSize(requestType, responseEntity.getBody());
             return responseEntity.getBody();
         } else {
+            recordRequest(sample, requestType, ERROR);
             throw new CpsClientException(
                 String.format("Response code from CPS other than 200: %d", statusCode));
         }
     }
 
+    /**
+     * Fetch node from the CPS using xpath and copy the response to a stream as it arrives. Nothing is
+     * written unless CPS answers with 200, so that failures are reported as they are by fetchNode.
+     *
+     * @param anchor anchor
+     * @param xpath xpath query
+     * @param requestType read request type
+     * @param includeDescendants whether descendants are included
+     * @param outputStream stream receiving the response
+     * @return number of bytes copied
+     */
+    public long streamNode(final String anchor, final String xpath, final String requestType,
+        final Boolean includeDescendants, final OutputStream outputStream) throws CpsClientException {
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final URI uri = readUri(requestPrototype, anchor, xpath, requestType, includeDescendants);
+        final int bufferSize = appConfiguration.getPassThrough().getBufferSize();
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final StreamedResponse streamedResponse;
+        try {
+            streamedResponse = restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().putAll(requestPrototype.getReadHeaders()),
+                response -> {
+                    final int statusCode = response.getStatusCode().value();
+                    if (statusCode != 200) {
+                        return new StreamedResponse(statusCode, 0);
+                    }
+                    return new StreamedResponse(statusCode, copy(response.getBody(), outputStream, bufferSize));
+                });
+        } catch (final Exception e) {
+            recordRequest(sample, requestType, ERROR);
+            throw new CpsClientException(e.getLocalizedMessage());
+        }
+
+        if (streamedResponse.statusCode == 200) {
+            recordRequest(sample, requestType, SUCCESS);
+            DistributionSummary.builder("tbdmt.cps.response.streamed")
+                .description("Size of the responses from CPS passed on without being buffered")
+                .baseUnit("bytes")
+                .tag("backend", String.valueOf(appConfiguration.getCpsClient()))
+                .tag("requestType", String.valueOf(requestType))
+                .register(meterRegistry)
+                .record(streamedResponse.size);
+            return streamedResponse.size;
+        } else {
+            recordRequest(sample, requestType, ERROR);
+            throw new CpsClientException(
+                String.format("Response code from CPS other than 200: %d", streamedResponse.statusCode));
+        }
+    }
+
+    /**
+     * Fetch node from the CPS using xpath into a response held in memory up to a threshold and in a
+     * temporary file beyond it. Responses larger than the configured maximum are rejected as soon as
+     * their announced length or the bytes read so far exceed it.
+     *
+     * @param anchor anchor
+     * @param xpath xpath query
+     * @param requestType read request type
+     * @param includeDescendants whether descendants are included
+     * @param spillThreshold size in bytes above which the response is written to a file
+     * @return response, to be closed by the caller
+     */
+    public SpooledResponse spoolNode(final String anchor, final String xpath, final String requestType,
+        final Boolean includeDescendants, final long spillThreshold) throws CpsClientException {
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final URI uri = readUri(requestPrototype, anchor, xpath, requestType, includeDescendants);
+        final ResponseSpillConfiguration responseSpillConfiguration = appConfiguration.getResponseSpill();
+        final long maxSize = responseSpillConfiguration.getMaxResponseBytes();
+        final Path directory = StringUtils.isBlank(responseSpillConfiguration.getDirectory()) ? null
+            : Path.of(responseSpillConfiguration.getDirectory());
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final SpooledNode spooledNode;
+        try {
+            spooledNode = restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().putAll(requestPrototype.getReadHeaders()),
+                response -> {
+                    final int statusCode = response.getStatusCode().value();
+                    if (statusCode != 200) {
+                        return new SpooledNode(statusCode, null);
+                    }
+                    return new SpooledNode(statusCode, SpooledResponse.spool(response.getBody(),
+                        response.getHeaders().getContentLength(), spillThreshold, maxSize, directory));
+                });
+        } catch (final Exception e) {
+            recordRequest(sample, requestType, ERROR);
+            throw new CpsClientException(e.getLocalizedMessage());
+        }
+
+        if (spooledNode.statusCode != 200) {
+            recordRequest(sample, requestType, ERROR);
+            throw new CpsClientException(
+                String.format("Response code from CPS other than 200: %d", spooledNode.statusCode));
+        }
+        if (spooledNode.response == null) {
+            recordRequest(sample, requestType, ERROR);
+            throw new ResponseTooLargeException(
+                String.format("Response from CPS larger than %d bytes", maxSize));
+        }
+        recordRequest(sample, requestType, SUCCESS);
+        DistributionSummary.builder("tbdmt.cps.response.spooled")
+            .description("Size of the responses from CPS read within the response size limit")
+            .baseUnit("bytes")
+            .tag("backend", String.valueOf(appConfiguration.getCpsClient()))
+            .tag("requestType", String.valueOf(requestType))
+            .tag("storage", spooledNode.response.isSpilled() ? "disk" : "memory")
+            .register(meterRegistry)
+            .record(spooledNode.response.getSize());
+        return spooledNode.response;
+    }
+
     /**
      * Post data to CPS using xpath.
      *
@@ -117,40 +225,40 @@ public class CpsRestClient {
      * @return result Response string from CPS
      */
     public String addData(final String anchor, final String xpath, final String requestType,
-            final Map<String, Object> payload) throws CpsClientException {
+            final RawJson payload) throws CpsClientException {
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
-        queryParams.add("xpath", xpath);
-        final CpsConfiguration cpsConfiguration = "cpsCore".equals(appConfiguration.getCpsClient())
-            ? appConfiguration.getCpsCoreConfiguration() : appConfiguration.getNcmpConfiguration();
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final HttpEntity<byte[]> entity = new HttpEntity<>(RawJson.toBytes(payload),
+            requestPrototype.getWriteHeaders());
 
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBasicAuth(cpsConfiguration.getUsername(), cpsConfiguration.getPassword());
-        final HttpEntity<String> entity = new HttpEntity<>(new com.google.gson.Gson().toJson(payload), headers);
-
-        String uri = buildCpsUrl(cpsConfiguration.getUrl(), POST_API_PATH, anchor, queryParams);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
         try {
+            final String result;
             switch (requestType) {
                 case "post":
-                    uri = buildCpsUrl(cpsConfiguration.getUrl(), POST_API_PATH, anchor, new LinkedMultiValueMap<>());
-                    return restTemplate.postForEntity(uri, entity, String.class).getBody();
+                    result = restTemplate.postForEntity(requestPrototype.uri(POST_API_PATH, anchor), entity,
+                        String.class).getBody();
+                    break;
                 case "patch":
-                    final HttpComponentsClientHttpRequestFactory requestFactory =
-                            new HttpComponentsClientHttpRequestFactory();
-                    requestFactory.setConnectTimeout(10000);
-                    requestFactory.setReadTimeout(10000);
-                    restTemplate.setRequestFactory(requestFactory);
-                    return restTemplate.patchForObject(uri, entity, String.class);
+                    result = restTemplate.patchForObject(requestPrototype.uri(POST_API_PATH, anchor, "xpath", xpath),
+                        entity, String.class);
+                    break;
                 case "post-list-node":
-                    uri = buildCpsUrl(cpsConfiguration.getUrl(), LIST_NODE_API_PATH, anchor, queryParams);
-                    return restTemplate.postForEntity(uri, entity, String.class).getBody();
+                    result = restTemplate.postForEntity(
+                        requestPrototype.uri(LIST_NODE_API_PATH, anchor, "xpath", xpath), entity, String.class)
+                        .getBody();
+                    break;
                 default:
-                    return restTemplate.exchange(uri, HttpMethod.PUT, entity, String.class).getBody();
+                    result = restTemplate.exchange(requestPrototype.uri(POST_API_PATH, anchor, "xpath", xpath),
+                        HttpMethod.PUT, entity, String.class).getBody();
             }
+            outcome = SUCCESS;
+            return result;
         } catch (final Exception e) {
             throw new CpsClientException(e.getLocalizedMessage());
+        } finally {
+            recordRequest(sample, requestType, outcome);
         }
     }
 
@@ -163,49 +271,99 @@ public class CpsRestClient {
      */
     public String deleteData(final String anchor, final String xpath,
               final String requestType) throws CpsClientException {
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
-        queryParams.add("xpath", xpath);
-        final CpsConfiguration cpsConfiguration = "cpsCore".equals(appConfiguration.getCpsClient())
-            ? appConfiguration.getCpsCoreConfiguration() : appConfiguration.getNcmpConfiguration();
-
-        String uri = buildCpsUrl(cpsConfiguration.getUrl(), POST_API_PATH, anchor, queryParams);
-
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
-        headers.setBasicAuth(cpsConfiguration.getUsername(), cpsConfiguration.getPassword());
-        final HttpEntity<String> entity = new HttpEntity<>(headers);
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final String path = "delete-list-node".equalsIgnoreCase(requestType) ? LIST_NODE_API_PATH : POST_API_PATH;
+        final URI uri = requestPrototype.uri(path, anchor, "xpath", xpath);
 
+        final Timer.Sample sample = Timer.start(meterRegistry);
         ResponseEntity<String> responseEntity = null;
         try {
-            if ("delete-list-node".equalsIgnoreCase(requestType)) {
-                uri = buildCpsUrl(cpsConfiguration.getUrl(), LIST_NODE_API_PATH, anchor, queryParams);
-                responseEntity = restTemplate.exchange(uri, HttpMethod.DELETE, entity, String.class);
-            } else {
-                responseEntity = restTemplate.exchange(uri, HttpMethod.DELETE, entity, String.class);
-            }
+            responseEntity = restTemplate.exchange(uri, HttpMethod.DELETE, requestPrototype.getReadEntity(),
+                String.class);
         } catch (final Exception e) {
+            recordRequest(sample, requestType, ERROR);
             throw new CpsClientException(e.getLocalizedMessage());
         }
 
         final int statusCode = responseEntity.getStatusCodeValue();
 
         if (statusCode == 204) {
+            recordRequest(sample, requestType, SUCCESS);
             return "{\"result\":\"Success\"}";
         } else {
+            recordRequest(sample, requestType, ERROR);
             throw new CpsClientException(
                 String.format("Response code from CPS other than 204: %d", statusCode));
         }
     }
 
-    private String buildCpsUrl(final String baseUrl, final String path, final String anchor,
-        final MultiValueMap<String, String> queryParams) {
+    private static URI readUri(final CpsRequestPrototype requestPrototype, final String anchor,
+        final String xpath, final String requestType, final Boolean includeDescendants) {
+        switch (requestType) {
+            case "query-cps-path":
+                return requestPrototype.uri(QUERY_API_PATH, anchor, "cps-path", xpath,
+                    "include-descendants", includeDescendants.toString());
+            case "query":
+                return requestPrototype.uri(QUERY_API_PATH, anchor, "xpath", xpath,
+                    "include-descendants", includeDescendants.toString());
+            default:
+                return requestPrototype.uri(NODES_API_PATH, anchor, "xpath", xpath,
+                    "include-descendants", includeDescendants.toString());
+        }
+    }
 
-        return UriComponentsBuilder
-            .fromHttpUrl(baseUrl)
-            .path(path)
-            .queryParams(queryParams)
-            .buildAndExpand(anchor)
-            .toUriString();
+    private static long copy(final InputStream inputStream, final OutputStream outputStream,
+        final int bufferSize) throws IOException {
+        final byte[] buffer = new byte[bufferSize];
+        long size = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+            size += read;
+        }
+        return size;
     }
 
+    private void recordRequest(final Timer.Sample sample, final String requestType, final String outcome) {
+        sample.stop(Timer.builder("tbdmt.cps.request")
+            .description("Duration of the requests towards CPS")
+            .tag("backend", String.valueOf(appConfiguration.getCpsClient()))
+            .tag("requestType", String.valueOf(requestType))
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
+
+    private void recordResponseSize(final String requestType, final String body) {
+        DistributionSummary.builder("tbdmt.cps.response.size")
+            .description("Size of the responses from CPS")
+            .baseUnit("characters")
+            .tag("backend", String.valueOf(appConfiguration.getCpsClient()))
+            .tag("requestType", String.valueOf(requestType))
+            .register(meterRegistry)
+            .record(body == null ? 0 : body.length());
+    }
+
+    private static class SpooledNode {
+
+        private final int statusCode;
+
+        private final SpooledResponse response;
+
+        SpooledNode(final int statusCode, final SpooledResponse response) {
+            this.statusCode = statusCode;
+            this.response = response;
+        }
+    }
+
+    private static class StreamedResponse {
+
+        private final int statusCode;
+
+        private final long size;
+
+        StreamedResponse(final int statusCode, final long size) {
+            this.statusCode = statusCode;
+            this.size = size;
+        }
+    }
 }
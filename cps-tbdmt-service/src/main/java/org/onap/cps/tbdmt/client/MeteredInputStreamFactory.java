@@ -0,0 +1,134 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.entity.InputStreamFactory;
+
+/**
+ * Decoder of a content encoding which records, for every response, the size on the wire, the
+ * compression ratio and the time spent decoding. The time spent waiting for the wire is measured
+ * apart and left out of the decoding time.
+ */
+class MeteredInputStreamFactory implements InputStreamFactory {
+
+    private final InputStreamFactory decoder;
+
+    private final DistributionSummary encodedSize;
+
+    private final DistributionSummary ratio;
+
+    private final Timer decodingTimer;
+
+    MeteredInputStreamFactory(final String encoding, final InputStreamFactory decoder,
+                              final MeterRegistry meterRegistry) {
+        this.decoder = decoder;
+        encodedSize = DistributionSummary.builder("tbdmt.cps.response.encoded.size")
+            .description("Size on the wire of the compressed responses from CPS")
+            .baseUnit("bytes")
+            .tag("encoding", encoding)
+            .register(meterRegistry);
+        ratio = DistributionSummary.builder("tbdmt.cps.response.compression.ratio")
+            .description("Decoded size divided by the size on the wire of the compressed responses from CPS")
+            .tag("encoding", encoding)
+            .register(meterRegistry);
+        decodingTimer = Timer.builder("tbdmt.cps.response.decoding")
+            .description("Time spent decompressing the responses from CPS")
+            .tag("encoding", encoding)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public InputStream create(final InputStream inputStream) throws IOException {
+        final TimedInputStream encoded = new TimedInputStream(inputStream);
+        return new DecodedInputStream(decoder.create(encoded), encoded);
+    }
+
+    private static class TimedInputStream extends FilterInputStream {
+
+        long bytes;
+
+        long nanos;
+
+        TimedInputStream(final InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                final int read = super.read();
+                if (read >= 0) {
+                    bytes++;
+                }
+                return read;
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final long startTime = System.nanoTime();
+            try {
+                final int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                    bytes += read;
+                }
+                return read;
+            } finally {
+                nanos += System.nanoTime() - startTime;
+            }
+        }
+    }
+
+    private class DecodedInputStream extends TimedInputStream {
+
+        private final TimedInputStream encoded;
+
+        private boolean closed;
+
+        DecodedInputStream(final InputStream inputStream, final TimedInputStream encoded) {
+            super(inputStream);
+            this.encoded = encoded;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                encodedSize.record(encoded.bytes);
+                if (encoded.bytes > 0) {
+                    ratio.record((double) bytes / encoded.bytes);
+                }
+                decodingTimer.record(Math.max(0, nanos - encoded.nanos), TimeUnit.NANOSECONDS);
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import org.onap.cps.tbdmt.json.RawJson;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the data of CPS and NCMP. Failed requests complete with a
+ * {@link org.onap.cps.tbdmt.exception.CpsClientException}.
+ */
+public interface ReactiveCpsClient {
+
+    /**
+     * Fetch node from the CPS using xpath.
+     *
+     * @param anchor anchor
+     * @param xpath xpath query
+     * @param requestType get, query or query-cps-path
+     * @param includeDescendants whether the descendants are included
+     * @return response string from CPS
+     */
+    Mono<String> fetchNode(String anchor, String xpath, String requestType, Boolean includeDescendants);
+
+    /**
+     * Post data to CPS using xpath.
+     *
+     * @param anchor anchor
+     * @param xpath xpath query
+     * @param requestType http request type
+     * @param payload request body
+     * @return response string from CPS
+     */
+    Mono<String> addData(String anchor, String xpath, String requestType, RawJson payload);
+
+    /**
+     * Delete data from the CPS using xpath.
+     *
+     * @param anchor anchor
+     * @param xpath xpath query
+     * @param requestType delete or delete-list-node
+     * @return result of the deletion
+     */
+    Mono<String> deleteData(String anchor, String xpath, String requestType);
+}
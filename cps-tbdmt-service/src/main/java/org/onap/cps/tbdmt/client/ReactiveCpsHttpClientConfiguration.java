@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.HttpClientConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Non-blocking HTTP transport towards CPS and NCMP for the reactive deployment. Requests waiting for a
+ * pooled connection are queued without holding a thread, so the pool limits bound the load on CPS
+ * rather than the number of executions in flight.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCpsHttpClientConfiguration {
+
+    /**
+     * Asynchronous HTTP client sized by the same settings as the blocking one.
+     *
+     * @param appConfiguration application configuration
+     * @return http client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient cpsHttpAsyncClient(final AppConfiguration appConfiguration) {
+        final HttpClientConfiguration httpClientConfiguration = appConfiguration.getHttpClient();
+        return HttpAsyncClients.custom()
+            .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpClientConfiguration.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(httpClientConfiguration.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(httpClientConfiguration.getConnectTimeoutMillis()))
+                    .setSocketTimeout(Timeout.ofMilliseconds(httpClientConfiguration.getReadTimeoutMillis()))
+                    .build())
+                .build())
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(
+                    Timeout.ofMilliseconds(httpClientConfiguration.getConnectionRequestTimeoutMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(httpClientConfiguration.getReadTimeoutMillis()))
+                .setDefaultKeepAlive(httpClientConfiguration.getKeepAliveSeconds(), TimeUnit.SECONDS)
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(httpClientConfiguration.getIdleEvictionSeconds()))
+            .build();
+    }
+
+    /**
+     * Web client on top of the asynchronous HTTP client, which is started by the connector.
+     *
+     * @param cpsHttpAsyncClient http client
+     * @return web client
+     */
+    @Bean
+    public WebClient cpsWebClient(final CloseableHttpAsyncClient cpsHttpAsyncClient) {
+        return WebClient.builder()
+            .clientConnector(new HttpComponentsClientHttpConnector(cpsHttpAsyncClient))
+            .build();
+    }
+}
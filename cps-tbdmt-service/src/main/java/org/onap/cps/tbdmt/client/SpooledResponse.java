@@ -0,0 +1,239 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Response from CPS held in memory up to a threshold and spooled to a temporary file above it. Spooled
+ * responses are read back through memory-mapped windows, so that they never occupy the heap as a
+ * whole. Closing the response deletes its file.
+ */
+public final class SpooledResponse implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final long MAPPED_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final byte[] content;
+
+    private final Path file;
+
+    private final long size;
+
+    private SpooledResponse(final byte[] content, final Path file, final long size) {
+        this.content = content;
+        this.file = file;
+        this.size = size;
+    }
+
+    /**
+     * Read a response, in memory as long as it is not larger than the threshold and to a temporary file
+     * beyond it.
+     *
+     * @param inputStream response body
+     * @param contentLength announced length of the body, -1 if unknown
+     * @param spillThreshold size above which the body is written to a file
+     * @param maxSize size above which the body is rejected, 0 for no limit
+     * @param directory directory of the temporary files, null for the default one
+     * @return response, null if it is larger than maxSize
+     * @throws IOException if the body cannot be read or written
+     */
+    public static SpooledResponse spool(final InputStream inputStream, final long contentLength,
+                                        final long spillThreshold, final long maxSize, final Path directory)
+        throws IOException {
+        if (exceeds(contentLength, maxSize)) {
+            return null;
+        }
+        ByteArrayOutputStream memory = contentLength > spillThreshold ? null : new ByteArrayOutputStream(
+            contentLength > 0 ? (int) Math.min(contentLength, MAX_ARRAY_SIZE) : BUFFER_SIZE);
+        Path file = null;
+        OutputStream outputStream = memory;
+        try {
+            if (memory == null) {
+                file = createTempFile(directory);
+                outputStream = Files.newOutputStream(file);
+            }
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+                if (exceeds(size, maxSize)) {
+                    outputStream.close();
+                    delete(file);
+                    return null;
+                }
+                if (memory != null && size > spillThreshold) {
+                    file = createTempFile(directory);
+                    outputStream = Files.newOutputStream(file);
+                    memory.writeTo(outputStream);
+                    memory = null;
+                }
+                outputStream.write(buffer, 0, read);
+            }
+            outputStream.close();
+            return memory == null ? new SpooledResponse(null, file, size)
+                : new SpooledResponse(memory.toByteArray(), null, size);
+        } catch (final IOException | RuntimeException e) {
+            if (outputStream != null) {
+                outputStream.close();
+            }
+            delete(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the response was written to a file.
+     *
+     * @return true if spooled to disk
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Size of the response.
+     *
+     * @return size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Response as a string. Meant for responses held in memory; a spooled response is loaded as a whole.
+     *
+     * @return response string
+     * @throws IOException if the file cannot be read
+     */
+    public String asString() throws IOException {
+        return content == null ? Files.readString(file) : new String(content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reader over the response, which maps the file of a spooled response one window at a time.
+     *
+     * @return reader, to be closed by the caller
+     * @throws IOException if the file cannot be opened
+     */
+    public Reader openReader() throws IOException {
+        final InputStream inputStream = content == null
+            ? new MappedInputStream(FileChannel.open(file, StandardOpenOption.READ), MAPPED_WINDOW_SIZE)
+            : new ByteArrayInputStream(content);
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delete(file);
+    }
+
+    private static boolean exceeds(final long size, final long maxSize) {
+        return maxSize > 0 && size > maxSize;
+    }
+
+    private static Path createTempFile(final Path directory) throws IOException {
+        return directory == null ? Files.createTempFile("tbdmt-", ".json")
+            : Files.createTempFile(directory, "tbdmt-", ".json");
+    }
+
+    private static void delete(final Path file) throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Stream over a file mapped in windows of bounded size, as a single mapping cannot exceed 2 GB.
+     */
+    static class MappedInputStream extends InputStream {
+
+        private final FileChannel fileChannel;
+
+        private final long windowSize;
+
+        private final long size;
+
+        private long position;
+
+        private MappedByteBuffer window;
+
+        MappedInputStream(final FileChannel fileChannel, final long windowSize) throws IOException {
+            this.fileChannel = fileChannel;
+            this.windowSize = windowSize;
+            this.size = fileChannel.size();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return nextWindow() ? window.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!nextWindow()) {
+                return -1;
+            }
+            final int count = Math.min(length, window.remaining());
+            window.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            fileChannel.close();
+        }
+
+        private boolean nextWindow() throws IOException {
+            if (window != null && window.hasRemaining()) {
+                return true;
+            }
+            if (position >= size) {
+                return false;
+            }
+            final long length = Math.min(windowSize, size - position);
+            window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            position += length;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveCpsClient} on the non-blocking web client. Requests, responses and errors are the
+ * same as those of {@link CpsRestClient}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class WebClientCpsClient implements ReactiveCpsClient {
+
+    private static final String NODES_API_PATH = "/anchors/{anchor}/node";
+
+    private static final String QUERY_API_PATH = "/anchors/{anchor}/nodes/query";
+
+    private static final String POST_API_PATH = "/anchors/{anchor}/nodes";
+
+    private static final String LIST_NODE_API_PATH = "/anchors/{anchor}/list-nodes";
+
+    private static final String DELETE_RESULT = "{\"result\":\"Success\"}";
+
+    private static final String SUCCESS = "success";
+
+    private static final String ERROR = "error";
+
+    private final CpsRequestPrototypes requestPrototypes = new CpsRequestPrototypes(NODES_API_PATH, QUERY_API_PATH,
+        POST_API_PATH, LIST_NODE_API_PATH);
+
+    @Autowired
+    private WebClient cpsWebClient;
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<String> fetchNode(final String anchor, final String xpath, final String requestType,
+                                  final Boolean includeDescendants) {
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final URI uri;
+        switch (requestType) {
+            case "query-cps-path":
+                uri = requestPrototype.uri(QUERY_API_PATH, anchor, "cps-path", xpath,
+                    "include-descendants", includeDescendants.toString());
+                break;
+            case "query":
+                uri = requestPrototype.uri(QUERY_API_PATH, anchor, "xpath", xpath,
+                    "include-descendants", includeDescendants.toString());
+                break;
+            default:
+                uri = requestPrototype.uri(NODES_API_PATH, anchor, "xpath", xpath,
+                    "include-descendants", includeDescendants.toString());
+        }
+        return exchange(cpsWebClient.get().uri(uri).headers(headers -> headers.addAll(requestPrototype
+            .getReadHeaders())), requestType, 200)
+            .doOnSuccess(body -> recordResponseSize(requestType, body));
+    }
+
+    @Override
+    public Mono<String> addData(final String anchor, final String xpath, final String requestType,
+                                final RawJson payload) {
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final URI uri;
+        final HttpMethod method;
+        switch (requestType) {
+            case "post":
+                uri = requestPrototype.uri(POST_API_PATH, anchor);
+                method = HttpMethod.POST;
+                break;
+            case "patch":
+                uri = requestPrototype.uri(POST_API_PATH, anchor, "xpath", xpath);
+                method = HttpMethod.PATCH;
+                break;
+            case "post-list-node":
+                uri = requestPrototype.uri(LIST_NODE_API_PATH, anchor, "xpath", xpath);
+                method = HttpMethod.POST;
+                break;
+            default:
+                uri = requestPrototype.uri(POST_API_PATH, anchor, "xpath", xpath);
+                method = HttpMethod.PUT;
+        }
+        return exchange(cpsWebClient.method(method).uri(uri)
+            .headers(headers -> headers.addAll(requestPrototype.getWriteHeaders()))
+            .bodyValue(RawJson.toBytes(payload)), requestType, null);
+    }
+
+    @Override
+    public Mono<String> deleteData(final String anchor, final String xpath, final String requestType) {
+        final String path = "delete-list-node".equalsIgnoreCase(requestType) ? LIST_NODE_API_PATH : POST_API_PATH;
+        final CpsRequestPrototype requestPrototype = requestPrototypes.forBackend(appConfiguration);
+        final URI uri = requestPrototype.uri(path, anchor, "xpath", xpath);
+        return exchange(cpsWebClient.delete().uri(uri).headers(headers -> headers.addAll(requestPrototype
+            .getReadHeaders())), requestType, 204)
+            .thenReturn(DELETE_RESULT);
+    }
+
+    /**
+     * Send a request and complete with the body of a successful response.
+     *
+     * @param request request to send
+     * @param requestType request type, for the metrics
+     * @param expectedStatus status of a successful response; null for any 2xx status
+     * @return response body, empty when there is none
+     */
+    private Mono<String> exchange(final WebClient.RequestHeadersSpec<?> request, final String requestType,
+                                  final Integer expectedStatus) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            return request.exchangeToMono(response -> toBody(response, expectedStatus))
+                .onErrorMap(e -> !(e instanceof CpsClientException),
+                    e -> new CpsClientException(e.getLocalizedMessage()))
+                .doOnSuccess(body -> recordRequest(sample, requestType, SUCCESS))
+                .doOnError(e -> recordRequest(sample, requestType, ERROR));
+        });
+    }
+
+    private static Mono<String> toBody(final ClientResponse response, final Integer expectedStatus) {
+        if (response.statusCode().isError()) {
+            return response.createException().flatMap(Mono::error);
+        }
+        final int statusCode = response.statusCode().value();
+        if (expectedStatus != null && statusCode != expectedStatus) {
+            return response.releaseBody().then(Mono.error(new CpsClientException(
+                String.format("Response code from CPS other than %d: %d", expectedStatus, statusCode))));
+        }
+        return response.bodyToMono(String.class);
+    }
+
+    private void recordRequest(final Timer.Sample sample, final String requestType, final String outcome) {
+        sample.stop(Timer.builder("tbdmt.cps.request")
+            .description("Duration of the requests towards CPS")
+            .tag("backend", String.valueOf(appConfiguration.getCpsClient()))
+            .tag("requestType", String.valueOf(requestType))
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
+
+    private void recordResponseSize(final String requestType, final String body) {
+        DistributionSummary.builder("tbdmt.cps.response.size")
+            .description("Size of the responses from CPS")
+            .baseUnit("characters")
+            .tag("backend", String.valueOf(appConfiguration.getCpsClient()))
+            .tag("requestType", String.valueOf(requestType))
+            .register(meterRegistry)
+            .record(body == null ? 0 : body.length());
+    }
+}
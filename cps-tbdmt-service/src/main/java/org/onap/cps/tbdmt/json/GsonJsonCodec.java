@@ -0,0 +1,167 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JsonCodec} on Gson, reading documents leniently with its streaming reader.
+ */
+public class GsonJsonCodec implements JsonCodec {
+
+    private final Gson gson = new GsonBuilder()
+        .registerTypeHierarchyAdapter(JsonNumber.class, new JsonNumberAdapter().nullSafe())
+        .create();
+
+    @Override
+    public String toJson(final Object value) {
+        return gson.toJson(value);
+    }
+
+    @Override
+    public Object parse(final String json) throws IOException {
+        final JsonReader jsonReader = new JsonReader(new StringReader(json));
+        jsonReader.setLenient(true);
+        final Object value = readValue(jsonReader);
+        checkConsumed(jsonReader);
+        return value;
+    }
+
+    @Override
+    public Extraction extract(final Reader reader, final List<String> stages) throws IOException {
+        final JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.setLenient(true);
+        final boolean rootArray = jsonReader.peek() == JsonToken.BEGIN_ARRAY;
+        final List<Object> matches = new ArrayList<>();
+        visit(jsonReader, stages, 0, matches);
+        checkConsumed(jsonReader);
+        return new Extraction(matches, rootArray);
+    }
+
+    private static void visit(final JsonReader jsonReader, final List<String> stages, final int stage,
+                              final List<Object> matches) throws IOException {
+        if (stage == stages.size()) {
+            matches.add(readValue(jsonReader));
+            return;
+        }
+        switch (jsonReader.peek()) {
+            case BEGIN_ARRAY:
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    visit(jsonReader, stages, stage, matches);
+                }
+                jsonReader.endArray();
+                break;
+            case BEGIN_OBJECT:
+                jsonReader.beginObject();
+                int firstMatch = -1;
+                while (jsonReader.hasNext()) {
+                    if (stages.get(stage).equals(jsonReader.nextName())) {
+                        // a repeated member replaces the earlier one, as it does in a parsed object
+                        if (firstMatch < 0) {
+                            firstMatch = matches.size();
+                        } else {
+                            matches.subList(firstMatch, matches.size()).clear();
+                        }
+                        visit(jsonReader, stages, stage + 1, matches);
+                    } else {
+                        jsonReader.skipValue();
+                    }
+                }
+                jsonReader.endObject();
+                break;
+            default:
+                jsonReader.skipValue();
+        }
+    }
+
+    private static Object readValue(final JsonReader jsonReader) throws IOException {
+        switch (jsonReader.peek()) {
+            case BEGIN_ARRAY:
+                return readArray(jsonReader);
+            case BEGIN_OBJECT:
+                return readObject(jsonReader);
+            case STRING:
+                return jsonReader.nextString();
+            case NUMBER:
+                return new JsonNumber(jsonReader.nextString());
+            case BOOLEAN:
+                return jsonReader.nextBoolean();
+            case NULL:
+                jsonReader.nextNull();
+                return null;
+            default:
+                throw new MalformedJsonException("Unexpected " + jsonReader.peek() + " at " + jsonReader.getPath());
+        }
+    }
+
+    private static List<Object> readArray(final JsonReader jsonReader) throws IOException {
+        final List<Object> values = new ArrayList<>();
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            values.add(readValue(jsonReader));
+        }
+        jsonReader.endArray();
+        return values;
+    }
+
+    private static Map<String, Object> readObject(final JsonReader jsonReader) throws IOException {
+        final Map<String, Object> members = new LinkedHashMap<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            members.put(jsonReader.nextName(), readValue(jsonReader));
+        }
+        jsonReader.endObject();
+        return members;
+    }
+
+    private static void checkConsumed(final JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+            throw new MalformedJsonException("JSON document was not fully consumed.");
+        }
+    }
+
+    private static class JsonNumberAdapter extends TypeAdapter<JsonNumber> {
+
+        @Override
+        public void write(final JsonWriter jsonWriter, final JsonNumber jsonNumber) throws IOException {
+            jsonWriter.jsonValue(jsonNumber.toString());
+        }
+
+        @Override
+        public JsonNumber read(final JsonReader jsonReader) throws IOException {
+            return new JsonNumber(jsonReader.nextString());
+        }
+    }
+}
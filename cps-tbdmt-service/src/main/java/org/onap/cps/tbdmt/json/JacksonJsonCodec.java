@@ -0,0 +1,252 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JsonCodec} on Jackson, reading documents with its streaming parser. Documents are written the
+ * way {@link GsonJsonCodec} writes them, with the same HTML-safe escapes and without null members, so
+ * that the codecs can replace one another. Documents must be strict JSON, as those of CPS are.
+ */
+public class JacksonJsonCodec implements JsonCodec {
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Create the codec with its own object mapper, independent of the one of the web layer.
+     */
+    public JacksonJsonCodec() {
+        objectMapper = new ObjectMapper()
+            .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL,
+                JsonInclude.Include.NON_NULL))
+            .registerModule(new SimpleModule().addSerializer(JsonNumber.class, new JsonNumberSerializer()));
+        jsonFactory = objectMapper.getFactory()
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+            .setCharacterEscapes(new HtmlSafeCharacterEscapes());
+    }
+
+    @Override
+    public String toJson(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Object parse(final String json) throws IOException {
+        try (JsonParser jsonParser = jsonFactory.createParser(json)) {
+            nextValue(jsonParser);
+            final Object value = readValue(jsonParser);
+            checkConsumed(jsonParser);
+            return value;
+        }
+    }
+
+    @Override
+    public Extraction extract(final Reader reader, final List<String> stages) throws IOException {
+        try (JsonParser jsonParser = jsonFactory.createParser(reader)) {
+            final boolean rootArray = nextValue(jsonParser) == JsonToken.START_ARRAY;
+            final List<Object> matches = new ArrayList<>();
+            visit(jsonParser, stages, 0, matches);
+            checkConsumed(jsonParser);
+            return new Extraction(matches, rootArray);
+        }
+    }
+
+    private static void visit(final JsonParser jsonParser, final List<String> stages, final int stage,
+                              final List<Object> matches) throws IOException {
+        if (stage == stages.size()) {
+            matches.add(readValue(jsonParser));
+            return;
+        }
+        switch (jsonParser.currentToken()) {
+            case START_ARRAY:
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    visit(jsonParser, stages, stage, matches);
+                }
+                break;
+            case START_OBJECT:
+                int firstMatch = -1;
+                while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                    final boolean match = stages.get(stage).equals(jsonParser.currentName());
+                    jsonParser.nextToken();
+                    if (match) {
+                        // a repeated member replaces the earlier one, as it does in a parsed object
+                        if (firstMatch < 0) {
+                            firstMatch = matches.size();
+                        } else {
+                            matches.subList(firstMatch, matches.size()).clear();
+                        }
+                        visit(jsonParser, stages, stage + 1, matches);
+                    } else {
+                        jsonParser.skipChildren();
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Object readValue(final JsonParser jsonParser) throws IOException {
+        switch (jsonParser.currentToken()) {
+            case START_ARRAY:
+                return readArray(jsonParser);
+            case START_OBJECT:
+                return readObject(jsonParser);
+            case VALUE_STRING:
+                return jsonParser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return new JsonNumber(jsonParser.getText());
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonParseException(jsonParser, "Unexpected " + jsonParser.currentToken());
+        }
+    }
+
+    private static List<Object> readArray(final JsonParser jsonParser) throws IOException {
+        final List<Object> values = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readValue(jsonParser));
+        }
+        return values;
+    }
+
+    private static Map<String, Object> readObject(final JsonParser jsonParser) throws IOException {
+        final Map<String, Object> members = new LinkedHashMap<>();
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = jsonParser.currentName();
+            jsonParser.nextToken();
+            members.put(name, readValue(jsonParser));
+        }
+        return members;
+    }
+
+    private static JsonToken nextValue(final JsonParser jsonParser) throws IOException {
+        final JsonToken jsonToken = jsonParser.nextToken();
+        if (jsonToken == null) {
+            throw new JsonParseException(jsonParser, "No JSON document.");
+        }
+        return jsonToken;
+    }
+
+    private static void checkConsumed(final JsonParser jsonParser) throws IOException {
+        if (jsonParser.nextToken() != null) {
+            throw new JsonParseException(jsonParser, "JSON document was not fully consumed.");
+        }
+    }
+
+    private static class JsonNumberSerializer extends StdSerializer<JsonNumber> {
+
+        private static final long serialVersionUID = 1L;
+
+        JsonNumberSerializer() {
+            super(JsonNumber.class);
+        }
+
+        @Override
+        public void serialize(final JsonNumber jsonNumber, final JsonGenerator jsonGenerator,
+                              final SerializerProvider serializerProvider) throws IOException {
+            jsonGenerator.writeNumber(jsonNumber.toString());
+        }
+    }
+
+    /**
+     * The escapes of Gson: control characters, the characters unsafe within HTML and the line and
+     * paragraph separators, in lower case hexadecimal.
+     */
+    private static class HtmlSafeCharacterEscapes extends CharacterEscapes {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int LINE_SEPARATOR = 0x2028;
+
+        private static final int PARAGRAPH_SEPARATOR = 0x2029;
+
+        private final int[] asciiEscapes = CharacterEscapes.standardAsciiEscapesForJSON();
+
+        private final SerializableString[] asciiSequences = new SerializableString[asciiEscapes.length];
+
+        HtmlSafeCharacterEscapes() {
+            for (int c = 0; c < 0x20; c++) {
+                if (asciiEscapes[c] == CharacterEscapes.ESCAPE_STANDARD) {
+                    escape(c);
+                }
+            }
+            for (final char c : "<>&='".toCharArray()) {
+                escape(c);
+            }
+        }
+
+        private void escape(final int c) {
+            asciiEscapes[c] = CharacterEscapes.ESCAPE_CUSTOM;
+            asciiSequences[c] = sequence(c);
+        }
+
+        @Override
+        public int[] getEscapeCodesForAscii() {
+            return asciiEscapes;
+        }
+
+        @Override
+        public SerializableString getEscapeSequence(final int c) {
+            if (c < asciiSequences.length) {
+                return asciiSequences[c];
+            }
+            return c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR ? sequence(c) : null;
+        }
+
+        private static SerializableString sequence(final int c) {
+            return new SerializedString(String.format("\\u%04x", c));
+        }
+    }
+}
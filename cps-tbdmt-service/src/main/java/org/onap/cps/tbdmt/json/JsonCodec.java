@@ -0,0 +1,63 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Reading and writing of the JSON documents exchanged with CPS and the callers. Documents are read into
+ * plain values: maps holding the members in document order, lists, strings, {@link JsonNumber},
+ * booleans and null, so that the execution does not depend on the library behind the codec.
+ */
+public interface JsonCodec {
+
+    /**
+     * Serialize a value. Besides plain values, beans such as the error responses are serialized by
+     * their properties. Null members of objects are left out and characters which are unsafe within
+     * HTML are escaped.
+     *
+     * @param value value to serialize
+     * @return JSON string
+     */
+    String toJson(Object value);
+
+    /**
+     * Parse a document into plain values.
+     *
+     * @param json JSON document
+     * @return value of the document
+     * @throws IOException if the document is not valid JSON
+     */
+    Object parse(String json) throws IOException;
+
+    /**
+     * Apply the stages of a transformParam to a document in a single pass over its tokens. Only the
+     * values matched by the last stage are materialized.
+     *
+     * @param reader JSON document, left open
+     * @param stages member names to follow, one per stage
+     * @return matched values in document order and the shape of the document
+     * @throws IOException if the document cannot be read or is not valid JSON
+     */
+    Extraction extract(Reader reader, List<String> stages) throws IOException;
+}
@@ -0,0 +1,57 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON codec selected by app.jsonCodec, gson unless configured otherwise.
+ */
+@Configuration
+public class JsonCodecConfiguration {
+
+    public static final String GSON = "gson";
+
+    public static final String JACKSON = "jackson";
+
+    @Bean
+    public JsonCodec jsonCodec(final AppConfiguration appConfiguration) {
+        return create(appConfiguration.getJsonCodec());
+    }
+
+    /**
+     * Create a codec by name.
+     *
+     * @param codec gson or jackson
+     * @return codec
+     */
+    public static JsonCodec create(final String codec) {
+        if (GSON.equalsIgnoreCase(codec)) {
+            return new GsonJsonCodec();
+        }
+        if (JACKSON.equalsIgnoreCase(codec)) {
+            return new JacksonJsonCodec();
+        }
+        throw new IllegalArgumentException("Unknown JSON codec: " + codec);
+    }
+}
@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import java.math.BigDecimal;
+
+/**
+ * Number read from a JSON document, kept as written so that it is serialized again unchanged and
+ * passed on as an input parameter the way CPS returned it.
+ */
+public final class JsonNumber extends Number {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String text;
+
+    public JsonNumber(final String text) {
+        this.text = text;
+    }
+
+    @Override
+    public int intValue() {
+        return new BigDecimal(text).intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return new BigDecimal(text).longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return Float.parseFloat(text);
+    }
+
+    @Override
+    public double doubleValue() {
+        return Double.parseDouble(text);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof JsonNumber && text.equals(((JsonNumber) other).text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
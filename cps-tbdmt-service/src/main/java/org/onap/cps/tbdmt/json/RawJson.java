@@ -0,0 +1,145 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JSON object kept as UTF-8 encoded text, so that a write payload is passed on to CPS without being
+ * bound to maps and written again. Member order, strings and numbers are kept as received; only the
+ * whitespace between tokens and the escapes within strings are normalized.
+ */
+@JsonSerialize(using = RawJson.RawJsonSerializer.class)
+@JsonDeserialize(using = RawJson.RawJsonDeserializer.class)
+public final class RawJson {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] bytes;
+
+    private RawJson(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * JSON object given as text.
+     *
+     * @param json JSON object
+     * @return raw JSON
+     */
+    public static RawJson of(final String json) {
+        return new RawJson(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Request body carrying a payload, the JSON null literal if there is none.
+     *
+     * @param rawJson payload, may be null
+     * @return UTF-8 encoded JSON
+     */
+    public static byte[] toBytes(final RawJson rawJson) {
+        return rawJson == null ? NULL : rawJson.bytes;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof RawJson && Arrays.equals(bytes, ((RawJson) other).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static class RawJsonSerializer extends StdSerializer<RawJson> {
+
+        private static final long serialVersionUID = 1L;
+
+        RawJsonSerializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public void serialize(final RawJson rawJson, final JsonGenerator jsonGenerator,
+                              final SerializerProvider serializerProvider) throws IOException {
+            jsonGenerator.writeRawValue(rawJson.toString());
+        }
+    }
+
+    /**
+     * Copies the tokens of the object to UTF-8 text as they are read, numbers with the text they were
+     * written with.
+     */
+    static class RawJsonDeserializer extends StdDeserializer<RawJson> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+        RawJsonDeserializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public RawJson deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext)
+            throws IOException {
+            if (!jsonParser.isExpectedStartObjectToken()) {
+                return (RawJson) deserializationContext.handleUnexpectedToken(RawJson.class, jsonParser);
+            }
+            final ByteArrayBuilder byteArrayBuilder = new ByteArrayBuilder();
+            try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(byteArrayBuilder)) {
+                int depth = 0;
+                do {
+                    final JsonToken jsonToken = jsonParser.currentToken();
+                    if (jsonToken == JsonToken.VALUE_NUMBER_INT || jsonToken == JsonToken.VALUE_NUMBER_FLOAT) {
+                        jsonGenerator.writeNumber(jsonParser.getText());
+                    } else {
+                        jsonGenerator.copyCurrentEvent(jsonParser);
+                    }
+                    if (jsonToken.isStructStart()) {
+                        depth++;
+                    } else if (jsonToken.isStructEnd()) {
+                        depth--;
+                    }
+                } while (depth > 0 && jsonParser.nextToken() != null);
+            }
+            return new RawJson(byteArrayBuilder.toByteArray());
+        }
+    }
+}
@@ -25,9 +25,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Getter
 @Setter
@@ -44,9 +42,32 @@ public class AppConfiguration {
 
     private Map<String, String> schemaToAnchor;
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
+    private CacheConfiguration templateCache = new CacheConfiguration();
+
+    private MultipleQueryConfiguration multipleQuery = new MultipleQueryConfiguration();
+
+    private HttpClientConfiguration httpClient = new HttpClientConfiguration();
+
+    private BatchConfiguration batch = new BatchConfiguration();
+
+    private ResultCacheConfiguration resultCache = new ResultCacheConfiguration();
+
+    private boolean coalesceReads = true;
+
+    private MetricsConfiguration metrics = new MetricsConfiguration();
+
+    private boolean virtualThreads = false;
+
+    private PassThroughConfiguration passThrough = new PassThroughConfiguration();
+
+    private CompressionConfiguration compression = new CompressionConfiguration();
+
+    private InputParameterSetsConfiguration inputParameterSets = new InputParameterSetsConfiguration();
+
+    private TransformPushDownConfiguration transformPushDown = new TransformPushDownConfiguration();
+
+    private ResponseSpillConfiguration responseSpill = new ResponseSpillConfiguration();
+
+    private String jsonCodec = "gson";
 
 }
@@ -20,11 +20,13 @@
 
 package org.onap.cps.tbdmt.model;
 
+import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.onap.cps.tbdmt.json.RawJson;
 
 @Getter
 @Setter
@@ -34,5 +36,11 @@ public class ExecutionRequest {
 
     private Map<String, String> inputParameters;
 
-    private Map<String, Object> payload;
+    private RawJson payload;
+
+    private List<Map<String, String>> inputParameterSets;
+
+    public ExecutionRequest(final Map<String, String> inputParameters, final RawJson payload) {
+        this(inputParameters, payload, null);
+    }
 }
@@ -0,0 +1,44 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class HttpClientConfiguration {
+
+    private int maxConnectionsTotal = 100;
+
+    private int maxConnectionsPerRoute = 50;
+
+    private long connectTimeoutMillis = 10000;
+
+    private long readTimeoutMillis = 30000;
+
+    private long connectionRequestTimeoutMillis = 10000;
+
+    private long keepAliveSeconds = 60;
+
+    private long idleEvictionSeconds = 30;
+
+}
@@ -0,0 +1,202 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.onap.cps.tbdmt.exception.ExecuteException;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a list of tasks on a shared pool with a bounded number of tasks in flight per call.
+ * The calling thread works through the inputs alongside the pool threads and only waits for the
+ * tasks already started, so that a nested fan-out made from a task running on the pool still runs
+ * in parallel when pool threads are free and completes on its calling thread when they are all held
+ * by their parents. With virtual threads enabled every task runs on a new virtual thread instead.
+ */
+@Component
+public class BoundedParallelExecutor {
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    private ExecutorService executorService;
+
+    private int maxConcurrency;
+
+    /**
+     * Create the shared pool, sized by the largest configured concurrency, or the virtual thread
+     * executor.
+     */
+    @PostConstruct
+    public void initialize() {
+        maxConcurrency = Math.max(1, Math.max(appConfiguration.getMultipleQuery().getMaxConcurrency(),
+            appConfiguration.getBatch().getMaxConcurrency()));
+        if (appConfiguration.isVirtualThreads()) {
+            executorService = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            return;
+        }
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "tbdmt-fan-out-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executorService = Executors.newFixedThreadPool(maxConcurrency, threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Apply a task to every input, keeping the results in the order of the inputs.
+     *
+     * @param inputs inputs of the tasks
+     * @param concurrency maximum number of tasks in flight, the calling thread included, capped by the size
+     *        of the pool
+     * @param task task to be applied to each input
+     * @param errorHandler maps a failed task to its result; null to stop at the first failure and rethrow it
+     * @return results in the order of the inputs
+     */
+    public <I, O> List<O> invokeAll(final List<I> inputs, final int concurrency, final Function<I, O> task,
+                                    final Function<RuntimeException, O> errorHandler) {
+        final Object[] results = new Object[inputs.size()];
+        run(inputs, concurrency, task, errorHandler, (index, result) -> results[index] = result);
+        @SuppressWarnings("unchecked")
+        final List<O> orderedResults = (List<O>) Arrays.asList(results);
+        return orderedResults;
+    }
+
+    /**
+     * Apply a task to every input and hand each result to a consumer as soon as it is available. The
+     * consumer is called by one thread at a time. In order, a result completed ahead of an earlier one
+     * is held until the earlier one is handed over.
+     *
+     * @param inputs inputs of the tasks
+     * @param concurrency maximum number of tasks in flight, the calling thread included, capped by the size
+     *        of the pool
+     * @param task task to be applied to each input
+     * @param errorHandler maps a failed task to its result; null to stop at the first failure and rethrow it
+     * @param ordered whether the results are handed over in the order of the inputs
+     * @param consumer receives the results; a failure of the consumer stops the remaining tasks
+     */
+    public <I, O> void invokeEach(final List<I> inputs, final int concurrency, final Function<I, O> task,
+                                  final Function<RuntimeException, O> errorHandler, final boolean ordered,
+                                  final Consumer<O> consumer) {
+        final Map<Integer, O> pendingResults = new HashMap<>();
+        final AtomicInteger nextResult = new AtomicInteger();
+        run(inputs, concurrency, task, errorHandler, (index, result) -> {
+            synchronized (pendingResults) {
+                if (!ordered) {
+                    consumer.accept(result);
+                    return;
+                }
+                pendingResults.put(index, result);
+                while (pendingResults.containsKey(nextResult.get())) {
+                    consumer.accept(pendingResults.remove(nextResult.getAndIncrement()));
+                }
+            }
+        });
+    }
+
+    private <I, O> void run(final List<I> inputs, final int concurrency, final Function<I, O> task,
+                            final Function<RuntimeException, O> errorHandler,
+                            final BiConsumer<Integer, O> resultHandler) {
+        final int workers = Math.min(Math.min(concurrency, maxConcurrency), inputs.size());
+        if (workers <= 1) {
+            for (int index = 0; index < inputs.size(); index++) {
+                resultHandler.accept(index, apply(task, inputs.get(index), errorHandler));
+            }
+            return;
+        }
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        // counts the inputs down as they are done or skipped, whichever thread took them
+        final CountDownLatch remainingInputs = new CountDownLatch(inputs.size());
+        final Runnable worker = () -> {
+            int index = nextIndex.getAndIncrement();
+            while (index < inputs.size()) {
+                try {
+                    if (failure.get() == null) {
+                        resultHandler.accept(index, apply(task, inputs.get(index), errorHandler));
+                    }
+                } catch (final RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remainingInputs.countDown();
+                }
+                index = nextIndex.getAndIncrement();
+            }
+        };
+        final List<Future<?>> futures = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            futures.add(executorService.submit(worker));
+        }
+        worker.run();
+        await(remainingInputs, futures);
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private static <I, O> O apply(final Function<I, O> task, final I input,
+                                  final Function<RuntimeException, O> errorHandler) {
+        try {
+            return task.apply(input);
+        } catch (final RuntimeException e) {
+            if (errorHandler == null) {
+                throw e;
+            }
+            return errorHandler.apply(e);
+        }
+    }
+
+    private static void await(final CountDownLatch remainingInputs, final List<Future<?>> futures) {
+        try {
+            remainingInputs.await();
+            // workers still queued behind busy pool threads would find no input left
+            futures.forEach(future -> future.cancel(false));
+        } catch (final InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ExecuteException("Interrupted while executing templates");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lets identical reads towards CPS which are in flight at the same time share one request. The
+ * first caller sends the request; callers arriving before it completes receive its response or error.
+ */
+@Component
+public class CoalescingReader {
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<CpsReadKey, CompletableFuture<String>> inFlightReads = new ConcurrentHashMap<>();
+
+    private Counter coalescedReads;
+
+    /**
+     * Register the metrics.
+     */
+    @PostConstruct
+    public void initialize() {
+        coalescedReads = Counter.builder("tbdmt.cps.reads.coalesced")
+            .description("Reads towards CPS served by an identical read already in flight")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Read from CPS, joining an identical read in flight if there is one.
+     *
+     * @param cpsReadKey read towards CPS
+     * @param cpsRead sends the read when no identical read is in flight
+     * @return response from CPS
+     * @throws CpsClientException if the shared read fails
+     */
+    public String read(final CpsReadKey cpsReadKey, final CpsRead cpsRead) throws CpsClientException {
+        if (!appConfiguration.isCoalesceReads()) {
+            return cpsRead.read();
+        }
+        final CompletableFuture<String> read = new CompletableFuture<>();
+        final CompletableFuture<String> inFlightRead = inFlightReads.putIfAbsent(cpsReadKey, read);
+        if (inFlightRead != null) {
+            coalescedReads.increment();
+            return await(inFlightRead);
+        }
+        try {
+            final String result = cpsRead.read();
+            // later callers must send their own read, they may need to see a write completed since
+            inFlightReads.remove(cpsReadKey, read);
+            read.complete(result);
+            return result;
+        } catch (final CpsClientException | RuntimeException e) {
+            inFlightReads.remove(cpsReadKey, read);
+            read.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!read.isDone()) {
+                inFlightReads.remove(cpsReadKey, read);
+                read.completeExceptionally(new CpsClientException("Read towards CPS failed"));
+            }
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #read(CpsReadKey, CpsRead)}, which joins an identical read in flight
+     * when it is subscribed. Cancelling a joined read does not cancel the shared one.
+     *
+     * @param cpsReadKey read towards CPS
+     * @param cpsRead sends the read when no identical read is in flight
+     * @return response from CPS
+     */
+    public Mono<String> coalesce(final CpsReadKey cpsReadKey, final Supplier<Mono<String>> cpsRead) {
+        if (!appConfiguration.isCoalesceReads()) {
+            return cpsRead.get();
+        }
+        return Mono.defer(() -> {
+            final CompletableFuture<String> read = new CompletableFuture<>();
+            final CompletableFuture<String> inFlightRead = inFlightReads.putIfAbsent(cpsReadKey, read);
+            if (inFlightRead != null) {
+                coalescedReads.increment();
+                return Mono.fromFuture(inFlightRead.copy());
+            }
+            return cpsRead.get()
+                .doOnSuccess(result -> {
+                    inFlightReads.remove(cpsReadKey, read);
+                    read.complete(result);
+                })
+                .doOnError(e -> {
+                    inFlightReads.remove(cpsReadKey, read);
+                    read.completeExceptionally(e);
+                })
+                .doFinally(signal -> {
+                    if (!read.isDone()) {
+                        inFlightReads.remove(cpsReadKey, read);
+                        read.completeExceptionally(new CpsClientException("Read towards CPS failed"));
+                    }
+                });
+        });
+    }
+
+    private static String await(final CompletableFuture<String> inFlightRead) throws CpsClientException {
+        try {
+            return inFlightRead.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CpsClientException("Interrupted while waiting for a read towards CPS");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CpsClientException(e.getCause().getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Read towards CPS.
+     */
+    @FunctionalInterface
+    public interface CpsRead {
+
+        String read() throws CpsClientException;
+    }
+}
@@ -0,0 +1,305 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Merges cps path queries which differ only in the predicate of their last step into queries whose
+ * predicate combines theirs with {@code or}, and tells which of the returned nodes each of them
+ * selects. Only predicates made of {@code @leaf='value'} conditions joined by {@code and} are merged,
+ * as the nodes they select can be recognized from their leaves.
+ */
+public final class CpsPathQueryConsolidator {
+
+    private static final Pattern CONDITION =
+        Pattern.compile("\\s*@([\\w.:-]+)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\"|(-?\\d+(?:\\.\\d+)?))\\s*");
+
+    private static final Pattern AND = Pattern.compile("and(?=[\\s@])");
+
+    private CpsPathQueryConsolidator() {
+    }
+
+    /**
+     * Group cps path queries into as few queries as possible.
+     *
+     * @param cpsPaths queries to group
+     * @param maxCpsPathLength maximum length of a merged query
+     * @return queries to execute, each with the indices of the queries it answers; queries which cannot
+     *         be merged are returned alone and unchanged
+     */
+    public static List<Consolidation> consolidate(final List<String> cpsPaths, final int maxCpsPathLength) {
+        final Map<String, List<Integer>> indicesByPrefix = new LinkedHashMap<>();
+        final Map<Integer, Query> queries = new LinkedHashMap<>();
+        final List<Consolidation> consolidations = new ArrayList<>();
+        for (int index = 0; index < cpsPaths.size(); index++) {
+            final Query query = Query.parse(cpsPaths.get(index));
+            if (query == null) {
+                consolidations.add(new Consolidation(cpsPaths.get(index), List.of(index), null));
+            } else {
+                queries.put(index, query);
+                indicesByPrefix.computeIfAbsent(query.getPrefix(), prefix -> new ArrayList<>()).add(index);
+            }
+        }
+        for (final Map.Entry<String, List<Integer>> prefixIndices : indicesByPrefix.entrySet()) {
+            final String prefix = prefixIndices.getKey();
+            final Set<String> predicates = new LinkedHashSet<>();
+            final List<Integer> indices = new ArrayList<>();
+            int length = prefix.length() + 2;
+            for (final int index : prefixIndices.getValue()) {
+                final String predicate = queries.get(index).getPredicate();
+                final int addedLength = predicates.isEmpty() ? predicate.length() : predicate.length() + 4;
+                if (!predicates.contains(predicate) && !predicates.isEmpty()
+                    && length + addedLength > maxCpsPathLength) {
+                    consolidations.add(consolidation(prefix, predicates, indices, queries, cpsPaths));
+                    predicates.clear();
+                    indices.clear();
+                    length = prefix.length() + 2;
+                }
+                if (predicates.add(predicate)) {
+                    length += predicates.size() == 1 ? predicate.length() : predicate.length() + 4;
+                }
+                indices.add(index);
+            }
+            consolidations.add(consolidation(prefix, predicates, indices, queries, cpsPaths));
+        }
+        return consolidations;
+    }
+
+    private static Consolidation consolidation(final String prefix, final Set<String> predicates,
+                                               final List<Integer> indices, final Map<Integer, Query> queries,
+                                               final List<String> cpsPaths) {
+        if (predicates.size() == 1) {
+            return new Consolidation(cpsPaths.get(indices.get(0)), List.copyOf(indices), null);
+        }
+        final List<Query> consolidatedQueries = new ArrayList<>(indices.size());
+        for (final int index : indices) {
+            consolidatedQueries.add(queries.get(index));
+        }
+        return new Consolidation(prefix + "[" + String.join(" or ", predicates) + "]", List.copyOf(indices),
+            consolidatedQueries);
+    }
+
+    /**
+     * A query to execute and the queries it answers.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Consolidation {
+
+        private final String cpsPath;
+
+        private final List<Integer> indices;
+
+        private final List<Query> queries;
+
+        /**
+         * Whether the query merges several predicates, so its result must be split.
+         *
+         * @return true if the query is merged
+         */
+        public boolean isMerged() {
+            return queries != null;
+        }
+
+        /**
+         * Split the nodes returned by a merged query between the queries it answers.
+         *
+         * @param nodes nodes returned by the merged query
+         * @return nodes selected by each query, in the order of the indices; null if a node does not
+         *         hold a leaf of a predicate, so that the queries must be executed one by one
+         */
+        public List<List<Object>> split(final List<?> nodes) {
+            final List<List<Object>> splitNodes = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++) {
+                splitNodes.add(new ArrayList<>());
+            }
+            for (final Object node : nodes) {
+                for (int i = 0; i < queries.size(); i++) {
+                    final Boolean matches = queries.get(i).matches(node);
+                    if (matches == null) {
+                        return null;
+                    }
+                    if (matches) {
+                        splitNodes.get(i).add(node);
+                    }
+                }
+            }
+            return splitNodes;
+        }
+    }
+
+    /**
+     * A cps path query split into the path up to the predicate of its last step and that predicate.
+     */
+    @Getter
+    public static class Query {
+
+        private final String cpsPath;
+
+        private final String prefix;
+
+        private final String predicate;
+
+        private final Map<String, String> conditions;
+
+        private Query(final String cpsPath, final String prefix, final String predicate,
+                      final Map<String, String> conditions) {
+            this.cpsPath = cpsPath;
+            this.prefix = prefix;
+            this.predicate = predicate;
+            this.conditions = Collections.unmodifiableMap(conditions);
+        }
+
+        /**
+         * Parse a cps path query.
+         *
+         * @param cpsPath query
+         * @return the query, or null if its last step has no predicate which can be merged
+         */
+        static Query parse(final String cpsPath) {
+            if (cpsPath == null || !cpsPath.endsWith("]")) {
+                return null;
+            }
+            char quote = 0;
+            int depth = 0;
+            int lastPredicate = -1;
+            for (int i = 0; i < cpsPath.length(); i++) {
+                final char c = cpsPath.charAt(i);
+                if (quote != 0) {
+                    quote = c == quote ? 0 : quote;
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '[') {
+                    lastPredicate = depth == 0 ? i : lastPredicate;
+                    depth++;
+                } else if (c == ']') {
+                    depth--;
+                }
+            }
+            if (quote != 0 || depth != 0 || lastPredicate <= 0) {
+                return null;
+            }
+            final String predicate = cpsPath.substring(lastPredicate + 1, cpsPath.length() - 1).trim();
+            final Map<String, String> conditions = parseConditions(predicate);
+            return conditions == null ? null
+                : new Query(cpsPath, cpsPath.substring(0, lastPredicate), predicate, conditions);
+        }
+
+        private static Map<String, String> parseConditions(final String predicate) {
+            final Map<String, String> conditions = new LinkedHashMap<>();
+            final Matcher condition = CONDITION.matcher(predicate);
+            final Matcher and = AND.matcher(predicate);
+            int position = 0;
+            while (true) {
+                condition.region(position, predicate.length());
+                if (!condition.lookingAt()) {
+                    return null;
+                }
+                final String value = condition.group(2) != null ? condition.group(2)
+                    : condition.group(3) != null ? condition.group(3) : condition.group(4);
+                if (conditions.put(condition.group(1), value) != null) {
+                    return null;
+                }
+                position = condition.end();
+                if (position == predicate.length()) {
+                    return conditions;
+                }
+                and.region(position, predicate.length());
+                if (!and.lookingAt()) {
+                    return null;
+                }
+                position = and.end();
+            }
+        }
+
+        /**
+         * Check whether a node returned by CPS is selected by the predicate. The leaves are looked up in
+         * the node, or in its only member when CPS wraps the node in an object named after it.
+         *
+         * @param node node returned by CPS
+         * @return whether the node is selected, or null if it does not hold a leaf of the predicate
+         */
+        Boolean matches(final Object node) {
+            if (!(node instanceof Map)) {
+                return null;
+            }
+            Map<?, ?> leaves = (Map<?, ?>) node;
+            if (!leaves.containsKey(conditions.keySet().iterator().next()) && leaves.size() == 1) {
+                final Object member = leaves.values().iterator().next();
+                leaves = member instanceof Map ? (Map<?, ?>) member : leaves;
+            }
+            boolean matches = true;
+            for (final Map.Entry<String, String> condition : conditions.entrySet()) {
+                final Object leaf = leaves.get(condition.getKey());
+                if (leaf == null || leaf instanceof Map || leaf instanceof List) {
+                    return null;
+                }
+                final Boolean leafMatches = matches(condition.getValue(), leaf);
+                if (leafMatches == null) {
+                    return null;
+                }
+                matches &= leafMatches;
+            }
+            return matches;
+        }
+
+        /**
+         * Compare a value of the predicate with a leaf. A numeric leaf is compared by value, so that 1.0
+         * or 01 select 1; a text leaf that only equals the value as a number is left for CPS to decide.
+         *
+         * @param value value of the predicate
+         * @param leaf leaf of the node
+         * @return whether the leaf equals the value, or null if that depends on how CPS compares them
+         */
+        private static Boolean matches(final String value, final Object leaf) {
+            final String text = leaf.toString();
+            if (value.equals(text)) {
+                return true;
+            }
+            final BigDecimal number = toNumber(value);
+            final BigDecimal leafNumber = toNumber(text);
+            if (number == null || leafNumber == null || number.compareTo(leafNumber) != 0) {
+                return false;
+            }
+            return leaf instanceof Number ? Boolean.TRUE : null;
+        }
+
+        private static BigDecimal toNumber(final String text) {
+            try {
+                return new BigDecimal(text.trim());
+            } catch (final NumberFormatException exception) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Identifies a read towards CPS: two reads with the same key return the same data.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CpsReadKey {
+
+    private final String backend;
+
+    private final String anchor;
+
+    private final String xpath;
+
+    private final String requestType;
+
+    private final Boolean includeDescendants;
+
+    /**
+     * Check whether a write may change the data returned by this read. Xpaths overlap when one is a
+     * prefix of the other; cps path queries may select nodes anywhere in the anchor.
+     *
+     * @param writeBackend backend of the write
+     * @param writeAnchor anchor of the write
+     * @param writeXpath xpath of the write
+     * @return true if the data read may have changed
+     */
+    public boolean isAffectedBy(final String writeBackend, final String writeAnchor, final String writeXpath) {
+        if (!Objects.equals(backend, writeBackend) || !Objects.equals(anchor, writeAnchor)) {
+            return false;
+        }
+        if ("query-cps-path".equals(requestType) || xpath.contains("//") || writeXpath.contains("//")) {
+            return true;
+        }
+        return xpath.startsWith(writeXpath) || writeXpath.startsWith(xpath);
+    }
+}
@@ -20,29 +20,48 @@
 
 package org.onap.cps.tbdmt.service;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.hubspot.jinjava.Jinjava;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.onap.cps.tbdmt.client.CpsRestClient;
-import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.client.SpooledResponse;
+import org.onap.cps.tbdmt.exception.BatchLimitExceededException;
 import org.onap.cps.tbdmt.exception.CpsClientException;
 import org.onap.cps.tbdmt.exception.ExecuteException;
 import org.onap.cps.tbdmt.exception.OutputTransformationException;
 import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.json.Extraction;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.RawJson;
 import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.BatchConfiguration;
+import org.onap.cps.tbdmt.model.BatchExecutionItem;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
+import org.onap.cps.tbdmt.model.ErrorResponse;
 import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.model.InputParameterSetsConfiguration;
+import org.onap.cps.tbdmt.model.MultipleQueryConfiguration;
 import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.model.TemplateKey;
+import org.onap.cps.tbdmt.model.TransformPushDownConfiguration;
+import org.onap.cps.tbdmt.service.CpsPathQueryConsolidator.Consolidation;
+import org.onap.cps.tbdmt.service.TransformPushDown.Candidate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -50,7 +69,7 @@ import org.springframework.stereotype.Service;
 public class ExecutionBusinessLogic {
 
     @Autowired
-    private TemplateRepository templateRepository;
+    private TemplateCache templateCache;
 
     @Autowired
     private AppConfiguration appConfiguration;
@@ -58,6 +77,27 @@ public class ExecutionBusinessLogic {
     @Autowired
     private CpsRestClient cpsRestClient;
 
+    @Autowired
+    private XpathTemplateRegistry xpathTemplateRegistry;
+
+    @Autowired
+    private BoundedParallelExecutor boundedParallelExecutor;
+
+    @Autowired
+    private ReadResultCache readResultCache;
+
+    @Autowired
+    private CoalescingReader coalescingReader;
+
+    @Autowired
+    private ExecutionMetrics executionMetrics;
+
+    @Autowired
+    private TransformPushDownPlanner transformPushDownPlanner;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
     /**
      * Execute a template stored in the database.
      *
@@ -68,172 +108,735 @@ public class ExecutionBusinessLogic {
      */
     public String executeTemplate(final String schemaSet, final String templateId,
                     final ExecutionRequest executionRequest) {
+        return executeTemplate(schemaSet, getTemplate(templateId), executionRequest);
+    }
+
+    /**
+     * Execute a template already looked up with getTemplate.
+     *
+     * @param schemaSet schema set
+     * @param template template
+     * @param executionRequest inputs to be applied to the templates
+     * @return result response from the execution of template
+     */
+    public String executeTemplate(final String schemaSet, final Template template,
+                    final ExecutionRequest executionRequest) {
+        final String result;
+        if (hasInputParameterSets(executionRequest)) {
+            final List<ExecutionResult> executionResults =
+                    executeInputParameterSets(template, schemaSet, executionRequest);
+            result = executionMetrics.record(ExecutionMetrics.SERIALIZE, template,
+                () -> joinResults(executionResults));
+        } else if (!StringUtils.isBlank(template.getMultipleQueryTemplateId())) {
+            result = executeMultipleQuery(template, executionRequest.getInputParameters(),
+                    executionRequest.getPayload());
+        } else {
+            final ExecutionResult executionResult = execute(template, executionRequest.getInputParameters(),
+                    executionRequest.getPayload(), schemaSet);
+            result = executionMetrics.record(ExecutionMetrics.SERIALIZE, template, executionResult::toJson);
+        }
+        executionMetrics.recordResultSize(template, result);
+        return result;
+    }
+
+    /**
+     * Look up the template of an execution.
+     *
+     * @param templateId templateId
+     * @return template
+     * @throws TemplateNotFoundException if there is no such template
+     */
+    public Template getTemplate(final String templateId) {
+        return findTemplate(templateId).orElseThrow(() -> new TemplateNotFoundException("Template does not exist"));
+    }
+
+    /**
+     * Prepare the execution of a template whose response is passed on from CPS without being buffered.
+     * Only reads without transformParam and multiple query, whose responses are not cached, qualify when
+     * pass-through is enabled. Such reads are not coalesced with identical reads in flight.
+     *
+     * @param schemaSet schema set
+     * @param template template, looked up with getTemplate
+     * @param executionRequest inputs to be applied to the templates
+     * @return the read to execute, or empty if the template must be executed by executeTemplate
+     */
+    public Optional<StreamedResult> passThrough(final String schemaSet, final Template template,
+                    final ExecutionRequest executionRequest) {
+        if (!appConfiguration.getPassThrough().isEnabled() || hasInputParameterSets(executionRequest)
+                || !isPassThrough(template)) {
+            return Optional.empty();
+        }
+        final String anchor = resolveAnchor(template, schemaSet);
+        final String xpath = executionMetrics.record(ExecutionMetrics.RENDER, template,
+                () -> xpathTemplateRegistry.render(template, executionRequest.getInputParameters()));
+        return Optional.of(outputStream -> {
+            try {
+                executionMetrics.record(ExecutionMetrics.CPS, template,
+                    () -> cpsRestClient.streamNode(anchor, xpath, template.getRequestType(),
+                            template.getIncludeDescendants(), outputStream));
+            } catch (final CpsClientException e) {
+                throw new ExecuteException(e.getLocalizedMessage());
+            }
+        });
+    }
 
-        final Optional<Template> templateOptional = templateRepository.findById(new TemplateKey(templateId));
-        if (templateOptional.isPresent()) {
-            if (!StringUtils.isBlank(templateOptional.get().getMultipleQueryTemplateId())) {
-                return executeMultipleQuery(templateOptional.get(), executionRequest.getInputParameters(),
-                        executionRequest.getPayload());
+    private boolean isPassThrough(final Template template) {
+        return StringUtils.isBlank(template.getMultipleQueryTemplateId())
+                && StringUtils.isBlank(template.getTransformParam())
+                && !isWrite(template.getRequestType())
+                && !readResultCache.isCached(template);
+    }
+
+    /**
+     * Execute a batch of templates. Consecutive reads run in parallel and identical reads within them
+     * are executed once; a write runs alone, after the items before it and before the items after it.
+     * An item whose template cannot be looked up gets its error as result, as a failed execution does.
+     *
+     * @param items templates to execute with their inputs
+     * @return result or error of every item, in the order of the items
+     */
+    public List<BatchExecutionResult> executeBatch(final List<BatchExecutionItem> items) {
+        final BatchConfiguration batchConfiguration = appConfiguration.getBatch();
+        if (items.size() > batchConfiguration.getMaxItems()) {
+            throw new BatchLimitExceededException("Batch must not have more than "
+                    + batchConfiguration.getMaxItems() + " items");
+        }
+        final List<BatchExecutionResult> results = new ArrayList<>(items.size());
+        final List<BatchExecutionItem> reads = new ArrayList<>();
+        for (final BatchExecutionItem item : items) {
+            final Optional<Template> template;
+            try {
+                template = findBatchTemplate(item);
+            } catch (final RuntimeException e) {
+                results.addAll(executeReads(reads, batchConfiguration.getMaxConcurrency()));
+                reads.clear();
+                results.add(toBatchError(item, e));
+                continue;
+            }
+            if (template.isPresent() && isWrite(template.get().getRequestType())) {
+                results.addAll(executeReads(reads, batchConfiguration.getMaxConcurrency()));
+                reads.clear();
+                results.add(executeBatchItem(item));
             } else {
-                return execute(templateOptional.get(), executionRequest.getInputParameters(),
-                        executionRequest.getPayload(), schemaSet);
+                reads.add(item);
+            }
+        }
+        results.addAll(executeReads(reads, batchConfiguration.getMaxConcurrency()));
+        return results;
+    }
+
+    private Optional<Template> findBatchTemplate(final BatchExecutionItem item) {
+        if (item == null || item.getTemplateId() == null) {
+            throw new ExecuteException("Batch item must have a templateId");
+        }
+        return templateCache.findById(new TemplateKey(item.getTemplateId()));
+    }
+
+    private List<BatchExecutionResult> executeReads(final List<BatchExecutionItem> reads, final int concurrency) {
+        final List<BatchExecutionItem> distinctReads = new ArrayList<>(new LinkedHashSet<>(reads));
+        final List<BatchExecutionResult> distinctResults =
+                boundedParallelExecutor.invokeAll(distinctReads, concurrency, this::executeBatchItem, null);
+        final Map<BatchExecutionItem, BatchExecutionResult> resultByItem = new HashMap<>();
+        for (int index = 0; index < distinctReads.size(); index++) {
+            resultByItem.put(distinctReads.get(index), distinctResults.get(index));
+        }
+        return reads.stream().map(resultByItem::get).collect(Collectors.toList());
+    }
+
+    private BatchExecutionResult executeBatchItem(final BatchExecutionItem item) {
+        try {
+            final String result = executeTemplate(item.getModel(), item.getTemplateId(),
+                    new ExecutionRequest(item.getInputParameters(), item.getPayload()));
+            return new BatchExecutionResult(item.getModel(), item.getTemplateId(), result, null);
+        } catch (final RuntimeException e) {
+            return toBatchError(item, e);
+        }
+    }
+
+    private static BatchExecutionResult toBatchError(final BatchExecutionItem item, final RuntimeException e) {
+        final String message = e instanceof TemplateNotFoundException
+                ? "Template Not found" : "Error while executing template";
+        final ErrorResponse error = new ErrorResponse(message, List.of(String.valueOf(e.getLocalizedMessage())));
+        return item == null ? new BatchExecutionResult(null, null, null, error)
+                : new BatchExecutionResult(item.getModel(), item.getTemplateId(), null, error);
+    }
+
+    private static boolean hasInputParameterSets(final ExecutionRequest executionRequest) {
+        return executionRequest.getInputParameterSets() != null
+                && !executionRequest.getInputParameterSets().isEmpty();
+    }
+
+    /**
+     * Execute a template once per set of input parameters. The queries of a query-cps-path template
+     * which differ only in the predicate of their last step are merged into as few queries as the
+     * maximum cps path length allows, and their result is split back per set. Other templates are
+     * executed once per set, in parallel for reads and in order for writes.
+     *
+     * @param template template to execute
+     * @param schemaSet schema set
+     * @param executionRequest request holding the sets of input parameters
+     * @return result of every set, in the order of the sets
+     */
+    private List<ExecutionResult> executeInputParameterSets(final Template template, final String schemaSet,
+            final ExecutionRequest executionRequest) {
+        final InputParameterSetsConfiguration configuration = appConfiguration.getInputParameterSets();
+        final List<Map<String, String>> inputParameterSets = executionRequest.getInputParameterSets();
+        if (inputParameterSets.size() > configuration.getMaxSets()) {
+            throw new BatchLimitExceededException("Input parameter sets must not have more than "
+                    + configuration.getMaxSets() + " items");
+        }
+        if (!configuration.isConsolidateQueries()
+                || !"query-cps-path".equalsIgnoreCase(template.getRequestType())
+                || !StringUtils.isBlank(template.getMultipleQueryTemplateId())) {
+            return boundedParallelExecutor.invokeAll(inputParameterSets,
+                isWrite(template.getRequestType()) ? 1 : multipleQueryConcurrency(template),
+                inputParameters -> executeInputParameterSet(template, schemaSet, inputParameters,
+                        executionRequest.getPayload()),
+                multipleQueryErrorHandler());
+        }
+        final String anchor = resolveAnchor(template, schemaSet);
+        final List<String> cpsPaths = new ArrayList<>(inputParameterSets.size());
+        for (final Map<String, String> inputParameters : inputParameterSets) {
+            cpsPaths.add(executionMetrics.record(ExecutionMetrics.RENDER, template,
+                () -> xpathTemplateRegistry.render(template, inputParameters)));
+        }
+        final List<Consolidation> consolidations = CpsPathQueryConsolidator.consolidate(cpsPaths,
+                configuration.getMaxCpsPathLength());
+        final ExecutionResult[] executionResults = new ExecutionResult[inputParameterSets.size()];
+        boundedParallelExecutor.invokeAll(consolidations, multipleQueryConcurrency(template), consolidation -> {
+            final List<ExecutionResult> consolidatedResults = executeConsolidation(template, anchor, consolidation);
+            for (int i = 0; i < consolidatedResults.size(); i++) {
+                executionResults[consolidation.getIndices().get(i)] = consolidatedResults.get(i);
+            }
+            return null;
+        }, null);
+        return Arrays.asList(executionResults);
+    }
+
+    private ExecutionResult executeInputParameterSet(final Template template, final String schemaSet,
+            final Map<String, String> inputParameters, final RawJson payload) {
+        if (!StringUtils.isBlank(template.getMultipleQueryTemplateId())) {
+            return ExecutionResult.ofJson(jsonCodec, executeMultipleQuery(template, inputParameters, payload));
+        }
+        return execute(template, inputParameters, payload, schemaSet);
+    }
+
+    private List<ExecutionResult> executeConsolidation(final Template template, final String anchor,
+            final Consolidation consolidation) {
+        try {
+            if (!consolidation.isMerged()) {
+                return Collections.nCopies(consolidation.getIndices().size(),
+                        toExecutionResult(template, read(template, anchor, consolidation.getCpsPath())));
+            }
+            final List<List<Object>> splitNodes = split(consolidation,
+                    read(template, anchor, consolidation.getCpsPath()));
+            executionMetrics.recordConsolidatedQuery(template, consolidation.getIndices().size(), splitNodes != null);
+            final List<ExecutionResult> executionResults = new ArrayList<>(consolidation.getIndices().size());
+            for (int i = 0; i < consolidation.getIndices().size(); i++) {
+                // nodes which cannot be told apart are read again for every set
+                executionResults.add(toExecutionResult(template, splitNodes == null
+                        ? read(template, anchor, consolidation.getQueries().get(i).getCpsPath())
+                        : jsonCodec.toJson(splitNodes.get(i))));
             }
+            return executionResults;
+        } catch (final RuntimeException e) {
+            final Function<RuntimeException, ExecutionResult> errorHandler = multipleQueryErrorHandler();
+            if (errorHandler == null) {
+                throw e;
+            }
+            return Collections.nCopies(consolidation.getIndices().size(), errorHandler.apply(e));
+        }
+    }
+
+    private List<List<Object>> split(final Consolidation consolidation, final String result) {
+        try {
+            final Object nodes = jsonCodec.parse(result);
+            return nodes instanceof List ? consolidation.split((List<?>) nodes) : null;
+        } catch (final IOException e) {
+            return null;
         }
-        throw new TemplateNotFoundException("Template does not exist");
     }
 
     private String executeMultipleQuery(final Template template, final Map<String, String> inputParameters,
-            final Map<String, Object> payload) throws OutputTransformationException {
-        final List<Object> processedQueryOutput = new ArrayList<Object>();
-        final String multipleQuerytemplateId = template.getMultipleQueryTemplateId();
-        final Optional<Template> multipleQueryTemplate =
-                templateRepository.findById(new TemplateKey(multipleQuerytemplateId));
-        if (!multipleQueryTemplate.isPresent()) {
-            throw new TemplateNotFoundException("Multiple query template does not exist");
-        } else {
-            if (StringUtils.isBlank(multipleQueryTemplate.get().getTransformParam())) {
-                throw new OutputTransformationException("Error executing multiple query: "
-                                + "Template must have atleast one transformParameter");
+            final RawJson payload) throws OutputTransformationException {
+        final ExecutionPlan executionPlan = resolvePlan(template);
+        final List<Map<String, String>> queryInputs = executeDependencies(executionPlan, inputParameters, payload);
+        final long startTime = System.nanoTime();
+        try {
+            final List<ExecutionResult> processedQueryOutput = boundedParallelExecutor.invokeAll(queryInputs,
+                multipleQueryConcurrency(template),
+                queryInput -> execute(template, queryInput, payload, template.getModel()),
+                multipleQueryErrorHandler());
+            final String result = executionMetrics.record(ExecutionMetrics.SERIALIZE, template,
+                () -> joinResults(processedQueryOutput));
+            executionPlan.recordTiming(template, startTime, System.nanoTime());
+            executionMetrics.recordCriticalPath(template, executionPlan.criticalPath());
+            return result;
+        } catch (final Exception e) {
+            throw new OutputTransformationException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Execute the templates a template with multiple query depends on, stage by stage, each of them once.
+     * Templates without dependencies are executed with the input parameters of the request, the others
+     * once for every combination of the values of their own dependencies.
+     *
+     * @param executionPlan plan of the template
+     * @param inputParameters input parameters of the request
+     * @param payload payload of the request
+     * @return input parameters of the executions of the template, one per combination of values
+     */
+    private List<Map<String, String>> executeDependencies(final ExecutionPlan executionPlan,
+            final Map<String, String> inputParameters, final RawJson payload) {
+        final Map<String, String> inputKeys = multipleQueryInputKeys(executionPlan);
+        final Map<String, List<String>> values = new ConcurrentHashMap<>();
+        for (final List<Template> stage : executionPlan.getStages()) {
+            boundedParallelExecutor.invokeAll(stage, appConfiguration.getMultipleQuery().getMaxConcurrency(),
+                dependency -> {
+                    final long startTime = System.nanoTime();
+                    final List<Template> dependencies = executionPlan.dependencies(dependency);
+                    final List<Map<String, String>> dependencyInputs = dependencies.isEmpty()
+                        ? Collections.singletonList(inputParameters)
+                        : combineValues(dependencies, values, inputKeys,
+                            appConfiguration.getMultipleQuery().getMaxCombinations());
+                    final List<List<String>> dependencyValues = boundedParallelExecutor.invokeAll(
+                        dependencyInputs, multipleQueryConcurrency(dependency),
+                        dependencyInput -> toQueryParameters(execute(dependency, dependencyInput, payload,
+                            executionPlan.getRoot().getModel())), null);
+                    values.put(dependency.getTemplateId(),
+                        dependencyValues.stream().flatMap(List::stream).collect(Collectors.toList()));
+                    executionPlan.recordTiming(dependency, startTime, System.nanoTime());
+                    return null;
+                }, null);
+        }
+        return combineValues(executionPlan.dependencies(executionPlan.getRoot()), values, inputKeys,
+                appConfiguration.getMultipleQuery().getMaxCombinations());
+    }
+
+    /**
+     * Resolve the templates needed to execute a template with multiple query.
+     *
+     * @param template template with multiple query
+     * @return execution plan
+     */
+    ExecutionPlan resolvePlan(final Template template) {
+        return ExecutionPlan.resolve(template, this::findTemplate);
+    }
+
+    /**
+     * Name of the input parameter which receives the values of every dependency of a plan.
+     *
+     * @param executionPlan execution plan
+     * @return input parameter name by template id
+     */
+    static Map<String, String> multipleQueryInputKeys(final ExecutionPlan executionPlan) {
+        final Map<String, String> inputKeys = new HashMap<>();
+        for (final List<Template> stage : executionPlan.getStages()) {
+            for (final Template dependency : stage) {
+                inputKeys.put(dependency.getTemplateId(), multipleQueryInputKey(dependency));
             }
-            final List<String> transformParamList = new ArrayList<String>(
-                    Arrays.asList(multipleQueryTemplate.get().getTransformParam().split("\\s*,\\s*")));
-            final String inputKey = transformParamList.get(transformParamList.size() - 1);
-            final String queryParamString = execute(multipleQueryTemplate.get(), inputParameters,
-                            payload, template.getModel());
-            final List<String> queryParamList = new ArrayList<String>();
-            final JsonParser jsonParser = new JsonParser();
-            final Gson gson = new Gson();
-            try {
-                if (jsonParser.parse(queryParamString).isJsonArray()) {
-                    final JsonArray array = jsonParser.parse(queryParamString).getAsJsonArray();
-
-                    for (final JsonElement jsonElement : array) {
-                        queryParamList.add(gson.fromJson(jsonElement, String.class));
-                    }
-                } else {
-                    queryParamList.add(queryParamString);
+        }
+        return inputKeys;
+    }
+
+    static List<String> toQueryParameters(final ExecutionResult executionResult) {
+        try {
+            return executionResult.toQueryParameters();
+        } catch (final RuntimeException e) {
+            throw new OutputTransformationException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Combine the values of the dependencies of a template into its input parameters.
+     *
+     * @param dependencies templates the template depends on
+     * @param values values of every executed template by id
+     * @param inputKeys name of the input parameter receiving the values of every template by id
+     * @param maxCombinations maximum number of combinations
+     * @return input parameters, one per combination of the values in the order of the dependencies
+     * @throws BatchLimitExceededException if the values have more than maxCombinations combinations
+     */
+    static List<Map<String, String>> combineValues(final List<Template> dependencies,
+            final Map<String, List<String>> values, final Map<String, String> inputKeys, final int maxCombinations) {
+        long combinationCount = 1;
+        for (final Template dependency : dependencies) {
+            // saturated, so that the count cannot overflow before an empty dependency brings it to zero
+            combinationCount = Math.min(combinationCount * values.get(dependency.getTemplateId()).size(),
+                    Integer.MAX_VALUE + 1L);
+        }
+        if (combinationCount > maxCombinations) {
+            throw new BatchLimitExceededException("Multiple query must not have more than "
+                    + maxCombinations + " combinations of values");
+        }
+        List<Map<String, String>> combinations = Collections.singletonList(new HashMap<>());
+        for (final Template dependency : dependencies) {
+            final List<Map<String, String>> extendedCombinations = new ArrayList<>();
+            for (final Map<String, String> combination : combinations) {
+                for (final String value : values.get(dependency.getTemplateId())) {
+                    final Map<String, String> extendedCombination = new HashMap<>(combination);
+                    extendedCombination.put(inputKeys.get(dependency.getTemplateId()), value);
+                    extendedCombinations.add(extendedCombination);
                 }
-                queryParamList.forEach(queryParam -> {
-                    final Map<String, String> inputParameter = new HashMap<String, String>();
-                    inputParameter.put(inputKey, queryParam);
-                    final Object result = execute(template, inputParameter, payload, template.getModel());
-                    processedQueryOutput.add(result);
-                });
-            } catch (final Exception e) {
-                throw new OutputTransformationException(e.getLocalizedMessage());
             }
-            return processedQueryOutput.toString();
+            combinations = extendedCombinations;
         }
+        return combinations;
     }
 
-    private String execute(final Template template, final Map<String, String> inputParameters,
-            final Map<String, Object> payload, final String schemaSet) {
+    /**
+     * Execute a template and write its results as newline delimited JSON, one line per result of its
+     * multiple query as soon as the result is available, or a single line for other templates. The
+     * template and the values of the multiple query are resolved before anything is written, so their
+     * failures are reported as they are by executeTemplate. A later failure which stops the execution
+     * is written as a last line holding the error.
+     *
+     * @param schemaSet schema set
+     * @param templateId templateId
+     * @param executionRequest inputs to be applied to the templates
+     * @param ordered whether the results of a multiple query are written in the order of its values
+     * @return the result to write
+     */
+    public StreamedResult streamTemplate(final String schemaSet, final String templateId,
+                    final ExecutionRequest executionRequest, final boolean ordered) {
+        final Template template = getTemplate(templateId);
+        if (hasInputParameterSets(executionRequest)) {
+            final List<ExecutionResult> executionResults =
+                    executeInputParameterSets(template, schemaSet, executionRequest);
+            return outputStream -> {
+                for (final ExecutionResult executionResult : executionResults) {
+                    writeLine(outputStream, executionResult.toJsonLine());
+                }
+            };
+        }
+        if (StringUtils.isBlank(template.getMultipleQueryTemplateId())) {
+            final ExecutionResult executionResult = execute(template, executionRequest.getInputParameters(),
+                    executionRequest.getPayload(), schemaSet);
+            return outputStream -> writeLine(outputStream, executionResult.toJsonLine());
+        }
+        final ExecutionPlan executionPlan = resolvePlan(template);
+        final List<Map<String, String>> queryInputs = executeDependencies(executionPlan,
+                executionRequest.getInputParameters(), executionRequest.getPayload());
+        return outputStream -> {
+            final long startTime = System.nanoTime();
+            try {
+                boundedParallelExecutor.invokeEach(queryInputs, multipleQueryConcurrency(template),
+                    queryInput -> execute(template, queryInput, executionRequest.getPayload(), template.getModel()),
+                    multipleQueryErrorHandler(), ordered,
+                    executionResult -> writeLine(outputStream, executionResult.toJsonLine()));
+                executionPlan.recordTiming(template, startTime, System.nanoTime());
+                executionMetrics.recordCriticalPath(template, executionPlan.criticalPath());
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            } catch (final RuntimeException e) {
+                writeLine(outputStream, toErrorResult(e).toJsonLine());
+            }
+        };
+    }
 
-        final String anchor = "dynamic".equalsIgnoreCase(template.getModel())
-            ?  schemaSet : appConfiguration.getSchemaToAnchor().get(template.getModel());
-        if (anchor == null) {
-            throw new ExecuteException("Anchor not found for the schema");
+    private Function<RuntimeException, ExecutionResult> multipleQueryErrorHandler() {
+        return appConfiguration.getMultipleQuery().isFailFast() ? null : this::toErrorResult;
+    }
+
+    private static void writeLine(final OutputStream outputStream, final String line) {
+        try {
+            outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Name of the input parameter which receives the values of a multiple query template, that is the
+     * last stage of its transformParam.
+     *
+     * @param multipleQueryTemplate template providing the values
+     * @return input parameter name
+     */
+    static String multipleQueryInputKey(final Template multipleQueryTemplate) {
+        if (StringUtils.isBlank(multipleQueryTemplate.getTransformParam())) {
+            throw new OutputTransformationException("Error executing multiple query: "
+                            + "Template must have atleast one transformParameter");
         }
-        final String xpath = generateXpath(template.getXpathTemplate(), inputParameters);
+        final List<String> transformParamList = new ArrayList<String>(
+                Arrays.asList(multipleQueryTemplate.getTransformParam().split("\\s*,\\s*")));
+        return transformParamList.get(transformParamList.size() - 1);
+    }
+
+    /**
+     * Number of executions of a multiple query in flight at once.
+     *
+     * @param template template executed for every value
+     * @return concurrency of the template, capped by the configured maximum
+     */
+    int multipleQueryConcurrency(final Template template) {
+        final MultipleQueryConfiguration multipleQueryConfiguration = appConfiguration.getMultipleQuery();
+        return Math.min(multipleQueryConfiguration.getTemplateConcurrency()
+                .getOrDefault(template.getTemplateId(), multipleQueryConfiguration.getMaxConcurrency()),
+                multipleQueryConfiguration.getMaxConcurrency());
+    }
+
+    static String joinResults(final List<ExecutionResult> executionResults) {
+        return executionResults.stream().map(ExecutionResult::toJson).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private Optional<Template> findTemplate(final String templateId) {
+        final Timer.Sample sample = executionMetrics.start();
+        final Optional<Template> template = templateCache.findById(new TemplateKey(templateId));
+        executionMetrics.stop(sample, ExecutionMetrics.LOOKUP, template.orElse(null),
+                template.isPresent() ? ExecutionMetrics.SUCCESS : ExecutionMetrics.NOT_FOUND);
+        return template;
+    }
+
+    ExecutionResult toErrorResult(final RuntimeException exception) {
+        return ExecutionResult.ofJson(jsonCodec, jsonCodec.toJson(new ErrorResponse("Error while executing template",
+                List.of(String.valueOf(exception.getLocalizedMessage())))));
+    }
+
+    private ExecutionResult execute(final Template template, final Map<String, String> inputParameters,
+            final RawJson payload, final String schemaSet) {
+
+        final String anchor = resolveAnchor(template, schemaSet);
+        final String xpath = executionMetrics.record(ExecutionMetrics.RENDER, template,
+                () -> xpathTemplateRegistry.render(template, inputParameters));
+        final String backend = appConfiguration.getCpsClient();
         try {
-            if ("put".equalsIgnoreCase(template.getRequestType()) || "patch".equalsIgnoreCase(template.getRequestType())
-                    || "post".equalsIgnoreCase(template.getRequestType())
-                    || "post-list-node".equalsIgnoreCase(template.getRequestType())) {
-                return cpsRestClient.addData(anchor, xpath, template.getRequestType(), payload);
-            } else if ("delete".equalsIgnoreCase(template.getRequestType())
-                    || "delete-list-node".equalsIgnoreCase(template.getRequestType())) {
-                return cpsRestClient.deleteData(anchor, xpath, template.getRequestType());
-            } else {
-                final String result = cpsRestClient.fetchNode(anchor, xpath, template.getRequestType(),
-                        template.getIncludeDescendants());
-                if (StringUtils.isBlank(template.getTransformParam())) {
-                    return result;
-                } else {
-                    final List<JsonElement> json = transform(template, result);
-                    return removeExtraBracketsIfAny(json, result);
+            if (isAddRequest(template.getRequestType())) {
+                try {
+                    return ExecutionResult.ofJson(jsonCodec, executionMetrics.record(ExecutionMetrics.CPS, template,
+                        () -> cpsRestClient.addData(anchor, xpath, template.getRequestType(), payload)));
+                } finally {
+                    // post creates the data at the root of the anchor
+                    readResultCache.invalidate(backend, anchor,
+                            "post".equalsIgnoreCase(template.getRequestType()) ? "/" : xpath);
                 }
+            } else if (isDeleteRequest(template.getRequestType())) {
+                try {
+                    return ExecutionResult.ofJson(jsonCodec, executionMetrics.record(ExecutionMetrics.CPS, template,
+                        () -> cpsRestClient.deleteData(anchor, xpath, template.getRequestType())));
+                } finally {
+                    readResultCache.invalidate(backend, anchor, xpath);
+                }
+            } else {
+                return readTransformed(template, anchor, xpath);
             }
         } catch (final CpsClientException e) {
             throw new ExecuteException(e.getLocalizedMessage());
         }
     }
 
-    private List<JsonElement> transform(final Template template, final String result) {
+    /**
+     * Anchor on which a template is executed.
+     *
+     * @param template template to execute
+     * @param schemaSet schema set, used as anchor by dynamic templates
+     * @return anchor
+     */
+    String resolveAnchor(final Template template, final String schemaSet) {
+        final String anchor = "dynamic".equalsIgnoreCase(template.getModel())
+            ?  schemaSet : appConfiguration.getSchemaToAnchor().get(template.getModel());
+        if (anchor == null) {
+            throw new ExecuteException("Anchor not found for the schema");
+        }
+        return anchor;
+    }
+
+    /**
+     * Apply the transformParam of a template, if any, to the response of a read.
+     *
+     * @param template executed template
+     * @param result response from CPS
+     * @return execution result
+     */
+    ExecutionResult toExecutionResult(final Template template, final String result) {
+        if (StringUtils.isBlank(template.getTransformParam())) {
+            return ExecutionResult.ofJson(jsonCodec, result);
+        }
+        return toExecutionResult(template, Arrays.asList(template.getTransformParam().split("\\s*,\\s*")), result);
+    }
 
-        final JsonElement transformJsonElement = new Gson().fromJson(result, JsonElement.class);
-        List<JsonElement> transformedResult;
-        List<JsonElement> temp;
-        List<JsonElement> processedOutput = new ArrayList<JsonElement>();
-        final List<String> transformParamList =
-                new ArrayList<String>(Arrays.asList(template.getTransformParam().split("\\s*,\\s*")));
+    /**
+     * Apply transform stages other than those of the template to the response of a read.
+     *
+     * @param template executed template
+     * @param stages member names to follow, one per stage
+     * @param result response from CPS
+     * @return execution result
+     */
+    ExecutionResult toExecutionResult(final Template template, final List<String> stages, final String result) {
+        return executionMetrics.record(ExecutionMetrics.TRANSFORM, template,
+            () -> ExecutionResult.ofExtraction(jsonCodec, transform(stages, result)));
+    }
+
+    /**
+     * Read the node of a template and apply its transformParam. With transform push-down enabled, the
+     * narrower read planned for the template is executed next to it until its output was found identical
+     * often enough, and then read instead.
+     *
+     * @param template executed template
+     * @param anchor anchor
+     * @param xpath rendered xpath
+     * @return execution result
+     */
+    private ExecutionResult readTransformed(final Template template, final String anchor, final String xpath) {
+        final TransformPushDownConfiguration pushDownConfiguration = transformPushDownPlanner.configuration();
+        final TransformPushDown pushDown = pushDownConfiguration.isEnabled()
+                && !StringUtils.isBlank(template.getTransformParam())
+                ? transformPushDownPlanner.pushDown(template) : null;
+        final Candidate candidate = pushDown == null ? null : pushDown.candidate();
+        if (candidate == null) {
+            return appConfiguration.getResponseSpill().isEnabled() && !StringUtils.isBlank(template.getTransformParam())
+                ? readSpooled(template, anchor, xpath) : toExecutionResult(template, read(template, anchor, xpath));
+        }
+        if (pushDown.isVerified(candidate, pushDownConfiguration.getShadowExecutions(),
+                pushDownConfiguration.getReverifyEvery())) {
+            final String pushedResult = read(template, anchor, candidate.xpath(xpath),
+                    candidate.getIncludeDescendants());
+            recordPushedRead(template, pushDown, pushedResult);
+            return toExecutionResult(template, candidate.getStages(), pushedResult);
+        }
+        final String result = read(template, anchor, xpath);
+        final ExecutionResult executionResult = toExecutionResult(template, result);
         try {
-            if (transformParamList.size() > 0) {
-                processedOutput = find(transformParamList.get(0), transformJsonElement, new ArrayList<JsonElement>());
-                transformParamList.remove(0);
-                for (final String param : transformParamList) {
-                    transformedResult = new ArrayList<JsonElement>();
-
-                    for (final JsonElement json : processedOutput) {
-                        temp = find(param, json, new ArrayList<JsonElement>());
-                        transformedResult.addAll(temp);
-                    }
-                    processedOutput.clear();
-                    processedOutput.addAll(transformedResult);
-                }
-            }
-        } catch (final Exception e) {
-            throw new OutputTransformationException(e.getLocalizedMessage());
+            recordShadowExecution(template, pushDown, candidate, result, executionResult,
+                    read(template, anchor, candidate.xpath(xpath), candidate.getIncludeDescendants()));
+        } catch (final RuntimeException e) {
+            recordShadowFailure(template, pushDown, candidate, result, e);
         }
+        return executionResult;
+    }
 
-        return processedOutput;
+    void recordPushedRead(final Template template, final TransformPushDown pushDown, final String pushedResult) {
+        pushDown.recordPushedRead(size(pushedResult));
+        executionMetrics.recordPushDownRead(template, ExecutionMetrics.PUSHED, pushedResult);
+    }
 
+    void recordShadowExecution(final Template template, final TransformPushDown pushDown, final Candidate candidate,
+            final String result, final ExecutionResult executionResult, final String pushedResult) {
+        final boolean identical = String.valueOf(executionResult.toJson())
+                .equals(toExecutionResult(template, candidate.getStages(), pushedResult).toJson());
+        executionMetrics.recordPushDownRead(template, ExecutionMetrics.ORIGINAL, result);
+        executionMetrics.recordPushDownRead(template, ExecutionMetrics.PUSHED, pushedResult);
+        pushDown.recordShadowExecution(candidate, identical, size(result), size(pushedResult),
+                identical ? null : "Output of the narrower read differed");
     }
 
-    private static List<JsonElement> find(final String param, final JsonElement jsonElement,
-                    final List<JsonElement> output) {
+    void recordShadowFailure(final Template template, final TransformPushDown pushDown, final Candidate candidate,
+            final String result, final Exception exception) {
+        executionMetrics.recordPushDownRead(template, ExecutionMetrics.ORIGINAL, result);
+        pushDown.recordShadowExecution(candidate, false, size(result), 0,
+                "Narrower read failed: " + exception.getLocalizedMessage());
+    }
 
-        if (jsonElement.isJsonArray()) {
-            for (final JsonElement je : jsonElement.getAsJsonArray()) {
-                find(param, je, output);
-            }
-        } else {
-            if (jsonElement.isJsonObject()) {
-                final JsonObject jsonObject = jsonElement.getAsJsonObject();
-                if (jsonObject.has(param)) {
-                    output.add(jsonObject.getAsJsonObject().get(param));
+    private static long size(final String result) {
+        return result == null ? 0 : result.length();
+    }
 
-                }
-            }
+    private String read(final Template template, final String anchor, final String xpath) {
+        return read(template, anchor, xpath, template.getIncludeDescendants());
+    }
+
+    private String read(final Template template, final String anchor, final String xpath,
+            final Boolean includeDescendants) {
+        final CpsReadKey cpsReadKey = new CpsReadKey(appConfiguration.getCpsClient(), anchor, xpath,
+                template.getRequestType(), includeDescendants);
+        try {
+            return executionMetrics.record(ExecutionMetrics.CPS, template, () -> fetchNode(template, cpsReadKey));
+        } catch (final CpsClientException e) {
+            throw new ExecuteException(e.getLocalizedMessage());
         }
-        return output;
+    }
 
+    private String fetchNode(final Template template, final CpsReadKey cpsReadKey) throws CpsClientException {
+        final Optional<String> cachedResult = readResultCache.get(template, cpsReadKey);
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+        return coalescingReader.read(cpsReadKey, () -> {
+            final long writeGeneration = readResultCache.writeGeneration();
+            final String result = fetchFromCps(cpsReadKey);
+            readResultCache.put(template, cpsReadKey, result, writeGeneration);
+            return result;
+        });
     }
 
-    private static String removeExtraBracketsIfAny(final List<JsonElement> jsonElementList, final String result) {
+    private String fetchFromCps(final CpsReadKey cpsReadKey) throws CpsClientException {
+        if (!appConfiguration.getResponseSpill().isEnabled()) {
+            return cpsRestClient.fetchNode(cpsReadKey.getAnchor(), cpsReadKey.getXpath(),
+                    cpsReadKey.getRequestType(), cpsReadKey.getIncludeDescendants());
+        }
+        // the response is needed as a whole, so it is only bounded by the response size limit
+        try (SpooledResponse response = cpsRestClient.spoolNode(cpsReadKey.getAnchor(), cpsReadKey.getXpath(),
+                cpsReadKey.getRequestType(), cpsReadKey.getIncludeDescendants(), Long.MAX_VALUE)) {
+            return response.asString();
+        } catch (final IOException e) {
+            throw new CpsClientException(e.getLocalizedMessage());
+        }
+    }
 
-        final Gson gson = new Gson();
-        final List<JsonElement> updatedResult = new ArrayList<>();
-        if (jsonElementList.size() == 1) {
-            if (gson.fromJson(result, JsonElement.class).isJsonArray()) {
-                return gson.toJson(jsonElementList);
+    /**
+     * Read the node of a template within the response size limit and apply its transformParam. Responses
+     * above the spill threshold are transformed from a temporary file and neither cached nor shared with
+     * concurrent executions, which would need them as a string.
+     *
+     * @param template executed template
+     * @param anchor anchor
+     * @param xpath rendered xpath
+     * @return execution result
+     */
+    private ExecutionResult readSpooled(final Template template, final String anchor, final String xpath) {
+        final List<String> stages = Arrays.asList(template.getTransformParam().split("\\s*,\\s*"));
+        final CpsReadKey cpsReadKey = new CpsReadKey(appConfiguration.getCpsClient(), anchor, xpath,
+                template.getRequestType(), template.getIncludeDescendants());
+        final Optional<String> cachedResult = readResultCache.get(template, cpsReadKey);
+        if (cachedResult.isPresent()) {
+            return toExecutionResult(template, stages, cachedResult.get());
+        }
+        final long writeGeneration = readResultCache.writeGeneration();
+        try (SpooledResponse response = executionMetrics.record(ExecutionMetrics.CPS, template,
+                () -> cpsRestClient.spoolNode(anchor, xpath, template.getRequestType(),
+                        template.getIncludeDescendants(), appConfiguration.getResponseSpill().getThresholdBytes()))) {
+            if (!response.isSpilled()) {
+                final String result = response.asString();
+                readResultCache.put(template, cpsReadKey, result, writeGeneration);
+                return toExecutionResult(template, stages, result);
             }
-            return gson.toJson(jsonElementList.get(0));
-        }
-        if (jsonElementList.size() > 1) {
-            jsonElementList.forEach(jsonElement -> {
-                if (jsonElement.isJsonArray() && jsonElement.getAsJsonArray().size() == 1) {
-                    updatedResult.add(jsonElement.getAsJsonArray().get(0));
-                } else {
-                    updatedResult.add(jsonElement);
-                }
-            });
-            return gson.toJson(updatedResult);
+            return executionMetrics.record(ExecutionMetrics.TRANSFORM, template,
+                () -> ExecutionResult.ofExtraction(jsonCodec, transform(stages, response)));
+        } catch (final CpsClientException | IOException e) {
+            throw new ExecuteException(e.getLocalizedMessage());
         }
-        return gson.toJson(jsonElementList);
+    }
+
+    private static boolean isWrite(final String requestType) {
+        return isAddRequest(requestType) || isDeleteRequest(requestType);
+    }
+
+    static boolean isAddRequest(final String requestType) {
+        return "put".equalsIgnoreCase(requestType) || "patch".equalsIgnoreCase(requestType)
+                || "post".equalsIgnoreCase(requestType) || "post-list-node".equalsIgnoreCase(requestType);
+    }
 
+    static boolean isDeleteRequest(final String requestType) {
+        return "delete".equalsIgnoreCase(requestType) || "delete-list-node".equalsIgnoreCase(requestType);
     }
 
-    private String generateXpath(final String xpathTemplate, final Map<String, String> templateParameters) {
-        return new Jinjava().render(xpathTemplate, templateParameters);
+    private Extraction transform(final List<String> stages, final SpooledResponse response) {
+        try (Reader reader = response.openReader()) {
+            return jsonCodec.extract(reader, stages);
+        } catch (final IOException e) {
+            throw new OutputTransformationException(e.getLocalizedMessage());
+        }
+    }
+
+    private Extraction transform(final List<String> stages, final String result) {
+        try {
+            return jsonCodec.extract(new StringReader(result), stages);
+        } catch (final IOException e) {
+            throw new OutputTransformationException(e.getLocalizedMessage());
+        }
     }
 }
@@ -0,0 +1,253 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.Template;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers of the stages of a template execution and sizes of the results. Only the first template ids
+ * seen are used as tag values, the others are tagged as "other" to keep the number of series bounded.
+ */
+@Component
+public class ExecutionMetrics {
+
+    public static final String STAGE_TIMER = "tbdmt.execution.stage";
+
+    public static final String RESULT_SIZE = "tbdmt.execution.result.size";
+
+    public static final String CRITICAL_PATH_TIMER = "tbdmt.execution.critical.path";
+
+    public static final String CONSOLIDATED_QUERY_SIZE = "tbdmt.execution.consolidated.query.size";
+
+    public static final String PUSH_DOWN_READ_SIZE = "tbdmt.transform.pushdown.read.size";
+
+    public static final String ORIGINAL = "original";
+
+    public static final String PUSHED = "pushed";
+
+    public static final String LOOKUP = "lookup";
+
+    public static final String RENDER = "render";
+
+    public static final String CPS = "cps";
+
+    public static final String TRANSFORM = "transform";
+
+    public static final String SERIALIZE = "serialize";
+
+    public static final String SUCCESS = "success";
+
+    public static final String ERROR = "error";
+
+    public static final String NOT_FOUND = "not_found";
+
+    private static final String UNKNOWN = "unknown";
+
+    private static final String OTHER = "other";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    private final Set<String> templateIdTags = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Run a stage of the execution of a template and record its duration.
+     *
+     * @param stage name of the stage
+     * @param template template being executed
+     * @param stageCall the stage
+     * @return result of the stage
+     * @throws E if the stage fails
+     */
+    public <T, E extends Exception> T record(final String stage, final Template template,
+                                             final StageCall<T, E> stageCall) throws E {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
+        try {
+            final T result = stageCall.call();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(stageTimer(stage, template, outcome));
+        }
+    }
+
+    /**
+     * Start timing a stage whose outcome is known only once it completed.
+     *
+     * @return started sample
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Record the duration of a stage started with {@link #start()}.
+     *
+     * @param sample started sample
+     * @param stage name of the stage
+     * @param template template being executed, null if it is not known
+     * @param outcome outcome of the stage
+     */
+    public void stop(final Timer.Sample sample, final String stage, final Template template, final String outcome) {
+        sample.stop(stageTimer(stage, template, outcome));
+    }
+
+    /**
+     * Record the size of the result of an execution.
+     *
+     * @param template executed template
+     * @param result result of the execution
+     */
+    public void recordResultSize(final Template template, final String result) {
+        DistributionSummary.builder(RESULT_SIZE)
+            .description("Size of the results of template executions")
+            .baseUnit("characters")
+            .tags(templateTags(template))
+            .register(meterRegistry)
+            .record(result == null ? 0 : result.length());
+    }
+
+    /**
+     * Record the critical path of the execution of a template with multiple query: its duration, the
+     * number of templates on it and how long each of them ran.
+     *
+     * @param template executed template
+     * @param criticalPath templates on the critical path with their durations in nanoseconds
+     */
+    public void recordCriticalPath(final Template template, final Map<Template, Long> criticalPath) {
+        long duration = 0;
+        for (final Map.Entry<Template, Long> pathTemplate : criticalPath.entrySet()) {
+            duration += pathTemplate.getValue();
+            Timer.builder(CRITICAL_PATH_TIMER + ".template")
+                .description("Duration of the templates on the critical path of template executions")
+                .tags(templateTags(template))
+                .tag("pathTemplateId", templateIdTag(pathTemplate.getKey().getTemplateId()))
+                .register(meterRegistry)
+                .record(pathTemplate.getValue(), TimeUnit.NANOSECONDS);
+        }
+        Timer.builder(CRITICAL_PATH_TIMER)
+            .description("Duration of the critical path of template executions")
+            .tags(templateTags(template))
+            .register(meterRegistry)
+            .record(duration, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(CRITICAL_PATH_TIMER + ".length")
+            .description("Number of templates on the critical path of template executions")
+            .tags(templateTags(template))
+            .register(meterRegistry)
+            .record(criticalPath.size());
+    }
+
+    /**
+     * Record a query merging the cps path queries of several sets of input parameters.
+     *
+     * @param template executed template
+     * @param inputParameterSets number of sets answered by the query
+     * @param split whether the result could be split per set, or the sets had to be read one by one
+     */
+    public void recordConsolidatedQuery(final Template template, final int inputParameterSets,
+                                        final boolean split) {
+        DistributionSummary.builder(CONSOLIDATED_QUERY_SIZE)
+            .description("Number of sets of input parameters answered by a merged cps path query")
+            .tags(templateTags(template))
+            .tag("outcome", split ? "split" : "unsplittable")
+            .register(meterRegistry)
+            .record(inputParameterSets);
+    }
+
+    /**
+     * Record the size of a read of a template with transform push-down.
+     *
+     * @param template executed template
+     * @param read ORIGINAL for the read of the template as it is, PUSHED for the narrower read
+     * @param result response from CPS
+     */
+    public void recordPushDownRead(final Template template, final String read, final String result) {
+        DistributionSummary.builder(PUSH_DOWN_READ_SIZE)
+            .description("Size of the responses from CPS of templates with transform push-down")
+            .baseUnit("characters")
+            .tags(templateTags(template))
+            .tag("read", read)
+            .register(meterRegistry)
+            .record(result == null ? 0 : result.length());
+    }
+
+    private Timer stageTimer(final String stage, final Template template, final String outcome) {
+        return Timer.builder(STAGE_TIMER)
+            .description("Duration of the stages of template executions")
+            .tags(templateTags(template))
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private Tags templateTags(final Template template) {
+        if (template == null) {
+            return Tags.of("templateId", UNKNOWN, "model", UNKNOWN, "requestType", UNKNOWN,
+                "backend", backend());
+        }
+        return Tags.of("templateId", templateIdTag(template.getTemplateId()),
+            "model", String.valueOf(template.getModel()),
+            "requestType", String.valueOf(template.getRequestType()),
+            "backend", backend());
+    }
+
+    private String templateIdTag(final String templateId) {
+        if (templateId == null) {
+            return UNKNOWN;
+        }
+        if (templateIdTags.contains(templateId)) {
+            return templateId;
+        }
+        if (templateIdTags.size() < appConfiguration.getMetrics().getMaxTemplateIdTags()) {
+            templateIdTags.add(templateId);
+            return templateId;
+        }
+        return OTHER;
+    }
+
+    private String backend() {
+        return String.valueOf(appConfiguration.getCpsClient());
+    }
+
+    /**
+     * Stage of the execution of a template.
+     */
+    @FunctionalInterface
+    public interface StageCall<T, E extends Exception> {
+
+        T call() throws E;
+    }
+}
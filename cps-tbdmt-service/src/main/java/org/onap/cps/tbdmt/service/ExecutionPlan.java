@@ -0,0 +1,216 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.onap.cps.tbdmt.exception.TemplateDependencyException;
+import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.model.Template;
+
+/**
+ * Templates needed to execute a template with multiple query, resolved from the multipleQueryTemplateId
+ * of every template, which lists the ids of the templates it depends on. A template on which several
+ * others depend appears once, so that it is executed once per execution. The dependencies are grouped
+ * into stages: the templates of a stage depend only on templates of earlier stages and can run in
+ * parallel. A plan is used for a single execution and records when each of its templates ran, to find
+ * the critical path of the execution.
+ */
+public final class ExecutionPlan {
+
+    private final Template root;
+
+    private final Map<String, Template> templates;
+
+    private final List<List<Template>> stages;
+
+    private final Map<String, long[]> timings = new ConcurrentHashMap<>();
+
+    private ExecutionPlan(final Template root, final Map<String, Template> templates,
+                          final List<List<Template>> stages) {
+        this.root = root;
+        this.templates = templates;
+        this.stages = stages;
+    }
+
+    /**
+     * Resolve the plan of a template.
+     *
+     * @param root template to execute
+     * @param lookup finds a template by id
+     * @return execution plan
+     * @throws TemplateNotFoundException if a dependency does not exist
+     * @throws TemplateDependencyException if the dependencies form a cycle
+     */
+    public static ExecutionPlan resolve(final Template root, final Function<String, Optional<Template>> lookup) {
+        final Map<String, Template> templates = new LinkedHashMap<>();
+        final Map<String, Integer> depths = new HashMap<>();
+        visit(root, lookup, true, templates, depths, new ArrayList<>());
+        final List<List<Template>> stages = new ArrayList<>();
+        for (final Template template : templates.values()) {
+            if (template == root) {
+                continue;
+            }
+            final int depth = depths.get(template.getTemplateId());
+            while (stages.size() <= depth) {
+                stages.add(new ArrayList<>());
+            }
+            stages.get(depth).add(template);
+        }
+        return new ExecutionPlan(root, templates, stages);
+    }
+
+    /**
+     * Check that the dependencies of a template do not lead back to it. Dependencies which do not
+     * exist yet are ignored.
+     *
+     * @param template template being saved
+     * @param lookup finds the other templates by id
+     * @throws TemplateDependencyException if the dependencies form a cycle
+     */
+    public static void checkAcyclic(final Template template, final Function<String, Optional<Template>> lookup) {
+        final Function<String, Optional<Template>> lookupWithTemplate = templateId ->
+            template.getTemplateId().equals(templateId) ? Optional.of(template) : lookup.apply(templateId);
+        visit(template, lookupWithTemplate, false, new LinkedHashMap<>(), new HashMap<>(), new ArrayList<>());
+    }
+
+    /**
+     * Ids of the templates a template depends on.
+     *
+     * @param template template
+     * @return ids in the order they are listed, empty if the template has no multiple query
+     */
+    public static List<String> dependencyIds(final Template template) {
+        if (StringUtils.isBlank(template.getMultipleQueryTemplateId())) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(template.getMultipleQueryTemplateId().trim().split("\\s*,\\s*"));
+    }
+
+    private static int visit(final Template template, final Function<String, Optional<Template>> lookup,
+                             final boolean requireAll, final Map<String, Template> templates,
+                             final Map<String, Integer> depths, final List<String> path) {
+        final String templateId = template.getTemplateId();
+        if (path.contains(templateId)) {
+            final List<String> cycle = new ArrayList<>(path.subList(path.indexOf(templateId), path.size()));
+            cycle.add(templateId);
+            throw new TemplateDependencyException("Template dependencies form a cycle: "
+                + String.join(" -> ", cycle));
+        }
+        final Integer knownDepth = depths.get(templateId);
+        if (knownDepth != null) {
+            return knownDepth;
+        }
+        path.add(templateId);
+        int depth = -1;
+        for (final String dependencyId : dependencyIds(template)) {
+            final Optional<Template> dependency = lookup.apply(dependencyId);
+            if (dependency.isPresent()) {
+                depth = Math.max(depth, visit(dependency.get(), lookup, requireAll, templates, depths, path));
+            } else if (requireAll) {
+                throw new TemplateNotFoundException("Multiple query template does not exist");
+            }
+        }
+        path.remove(path.size() - 1);
+        depth++;
+        depths.put(templateId, depth);
+        templates.put(templateId, template);
+        return depth;
+    }
+
+    public Template getRoot() {
+        return root;
+    }
+
+    /**
+     * Dependencies of the root template, by stage in execution order.
+     *
+     * @return stages
+     */
+    public List<List<Template>> getStages() {
+        return stages;
+    }
+
+    /**
+     * Dependencies of a template of the plan.
+     *
+     * @param template template of the plan
+     * @return templates it depends on, in the order they are listed
+     */
+    public List<Template> dependencies(final Template template) {
+        final List<String> dependencyIds = dependencyIds(template);
+        final List<Template> dependencies = new ArrayList<>(dependencyIds.size());
+        for (final String dependencyId : dependencyIds) {
+            dependencies.add(templates.get(dependencyId));
+        }
+        return dependencies;
+    }
+
+    /**
+     * Record when a template of the plan ran.
+     *
+     * @param template template of the plan
+     * @param startNanos start time, from System.nanoTime()
+     * @param endNanos end time, from System.nanoTime()
+     */
+    public void recordTiming(final Template template, final long startNanos, final long endNanos) {
+        timings.put(template.getTemplateId(), new long[] {startNanos, endNanos});
+    }
+
+    /**
+     * Templates on the critical path of the execution, from the root back through the dependency which
+     * completed last at every step.
+     *
+     * @return templates on the critical path and how long each ran in nanoseconds, starting with the
+     *         first one executed
+     */
+    public Map<Template, Long> criticalPath() {
+        final List<Template> path = new ArrayList<>();
+        Template template = root;
+        while (template != null && timings.containsKey(template.getTemplateId())) {
+            path.add(0, template);
+            Template lastCompleted = null;
+            for (final Template dependency : dependencies(template)) {
+                final long[] timing = timings.get(dependency.getTemplateId());
+                if (timing != null && (lastCompleted == null
+                    || timing[1] > timings.get(lastCompleted.getTemplateId())[1])) {
+                    lastCompleted = dependency;
+                }
+            }
+            template = lastCompleted;
+        }
+        final Map<Template, Long> criticalPath = new LinkedHashMap<>();
+        for (final Template pathTemplate : path) {
+            final long[] timing = timings.get(pathTemplate.getTemplateId());
+            criticalPath.put(pathTemplate, timing[1] - timing[0]);
+        }
+        return criticalPath;
+    }
+}
@@ -0,0 +1,156 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.onap.cps.tbdmt.json.Extraction;
+import org.onap.cps.tbdmt.json.JsonCodec;
+
+/**
+ * Result of one execution stage. It holds either the response as received from CPS or the values
+ * extracted by the transformParam, so that the response is parsed at most once and serialized only
+ * when it leaves the service.
+ */
+public final class ExecutionResult {
+
+    private final JsonCodec jsonCodec;
+
+    private final String json;
+
+    private final List<Object> matches;
+
+    private final boolean rootArray;
+
+    private ExecutionResult(final JsonCodec jsonCodec, final String json, final List<Object> matches,
+                            final boolean rootArray) {
+        this.jsonCodec = jsonCodec;
+        this.json = json;
+        this.matches = matches;
+        this.rootArray = rootArray;
+    }
+
+    /**
+     * Result passed on as received.
+     *
+     * @param jsonCodec codec reading the response if its values are needed
+     * @param json response string
+     * @return execution result
+     */
+    public static ExecutionResult ofJson(final JsonCodec jsonCodec, final String json) {
+        return new ExecutionResult(jsonCodec, json, null, false);
+    }
+
+    /**
+     * Result made of the values selected by a transformParam.
+     *
+     * @param jsonCodec codec serializing the values
+     * @param extraction matched values and shape of the response
+     * @return execution result
+     */
+    public static ExecutionResult ofExtraction(final JsonCodec jsonCodec, final Extraction extraction) {
+        return new ExecutionResult(jsonCodec, null, extraction.getMatches(), extraction.isRootArray());
+    }
+
+    /**
+     * Serialize the result. Transformed values lose the brackets of single valued lists.
+     *
+     * @return result as JSON string
+     */
+    public String toJson() {
+        if (matches == null) {
+            return json;
+        }
+        if (matches.size() == 1) {
+            return rootArray ? jsonCodec.toJson(matches) : jsonCodec.toJson(matches.get(0));
+        }
+        return jsonCodec.toJson(unwrapSingleValuedArrays());
+    }
+
+    /**
+     * Serialize the result on a single line. Line breaks of a response received from CPS can only be
+     * whitespace between tokens, as they are escaped within strings, so they are replaced by spaces.
+     *
+     * @return result as JSON string without line breaks
+     */
+    public String toJsonLine() {
+        return String.valueOf(toJson()).replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Values of the result to be used as input parameters of a multiple query.
+     *
+     * @return values as strings, in order
+     */
+    public List<String> toQueryParameters() {
+        if (matches == null) {
+            final Object value = parse(json);
+            return value instanceof List ? asStrings((List<?>) value) : List.of(json);
+        }
+        if (matches.size() == 1) {
+            if (rootArray) {
+                return Collections.singletonList(asString(matches.get(0)));
+            }
+            final Object match = matches.get(0);
+            return match instanceof List ? asStrings((List<?>) match) : List.of(jsonCodec.toJson(match));
+        }
+        return asStrings(unwrapSingleValuedArrays());
+    }
+
+    private Object parse(final String document) {
+        try {
+            return jsonCodec.parse(document);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Object> unwrapSingleValuedArrays() {
+        final List<Object> updatedResult = new ArrayList<>(matches.size());
+        for (final Object value : matches) {
+            if (value instanceof List && ((List<?>) value).size() == 1) {
+                updatedResult.add(((List<?>) value).get(0));
+            } else {
+                updatedResult.add(value);
+            }
+        }
+        return updatedResult;
+    }
+
+    private List<String> asStrings(final List<?> values) {
+        final List<String> strings = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            strings.add(asString(value));
+        }
+        return strings;
+    }
+
+    private String asString(final Object value) {
+        if (value instanceof Map || value instanceof List) {
+            throw new IllegalArgumentException("Expected a string but was " + jsonCodec.toJson(value));
+        }
+        return value == null ? null : value.toString();
+    }
+}
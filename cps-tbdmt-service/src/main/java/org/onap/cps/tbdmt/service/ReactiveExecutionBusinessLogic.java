@@ -0,0 +1,325 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.onap.cps.tbdmt.client.ReactiveCpsClient;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.exception.ExecuteException;
+import org.onap.cps.tbdmt.exception.OutputTransformationException;
+import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.BatchExecutionItem;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
+import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.onap.cps.tbdmt.model.TransformPushDownConfiguration;
+import org.onap.cps.tbdmt.service.TransformPushDown.Candidate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Execute path of the reactive deployment. Executions have the same results, errors and metrics as
+ * those of {@link ExecutionBusinessLogic}, but wait for CPS without holding a thread. Templates which
+ * are not cached are looked up on the bounded elastic scheduler, never on the thread of the caller.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExecutionBusinessLogic {
+
+    @Autowired
+    private TemplateCache templateCache;
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    @Autowired
+    private ReactiveCpsClient reactiveCpsClient;
+
+    @Autowired
+    private XpathTemplateRegistry xpathTemplateRegistry;
+
+    @Autowired
+    private ReadResultCache readResultCache;
+
+    @Autowired
+    private CoalescingReader coalescingReader;
+
+    @Autowired
+    private ExecutionMetrics executionMetrics;
+
+    @Autowired
+    private ExecutionBusinessLogic executionBusinessLogic;
+
+    @Autowired
+    private TransformPushDownPlanner transformPushDownPlanner;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    /**
+     * Execute a template stored in the database. Requests with several sets of input parameters are
+     * executed on the bounded elastic scheduler with the blocking client.
+     *
+     * @param schemaSet schema set
+     * @param templateId templateId
+     * @param executionRequest inputs to be applied to the templates
+     * @return result response from the execution of template
+     */
+    public Mono<String> executeTemplate(final String schemaSet, final String templateId,
+                                        final ExecutionRequest executionRequest) {
+        if (executionRequest.getInputParameterSets() != null && !executionRequest.getInputParameterSets().isEmpty()) {
+            return Mono.fromCallable(() -> executionBusinessLogic.executeTemplate(schemaSet, templateId,
+                    executionRequest))
+                .subscribeOn(Schedulers.boundedElastic());
+        }
+        return findTemplate(templateId)
+            .switchIfEmpty(Mono.error(() -> new TemplateNotFoundException("Template does not exist")))
+            .flatMap(template -> {
+                final Mono<String> result;
+                if (!StringUtils.isBlank(template.getMultipleQueryTemplateId())) {
+                    result = executeMultipleQuery(template, executionRequest.getInputParameters(),
+                        executionRequest.getPayload());
+                } else {
+                    result = execute(template, executionRequest.getInputParameters(), executionRequest.getPayload(),
+                        schemaSet).map(executionResult -> executionMetrics.record(ExecutionMetrics.SERIALIZE,
+                            template, executionResult::toJson));
+                }
+                return result.doOnNext(json -> executionMetrics.recordResultSize(template, json));
+            });
+    }
+
+    /**
+     * Execute a batch of templates. Batches keep the ordering of their writes, so they run on the
+     * bounded elastic scheduler with the blocking client.
+     *
+     * @param items templates to execute with their inputs
+     * @return result or error of every item, in the order of the items
+     */
+    public Mono<List<BatchExecutionResult>> executeBatch(final List<BatchExecutionItem> items) {
+        return Mono.fromCallable(() -> executionBusinessLogic.executeBatch(items))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<String> executeMultipleQuery(final Template template, final Map<String, String> inputParameters,
+                                              final RawJson payload) {
+        return Mono.fromCallable(() -> executionBusinessLogic.resolvePlan(template))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(executionPlan -> {
+                final Map<String, String> inputKeys = ExecutionBusinessLogic.multipleQueryInputKeys(executionPlan);
+                final Map<String, Mono<List<String>>> values = new HashMap<>();
+                for (final List<Template> stage : executionPlan.getStages()) {
+                    for (final Template dependency : stage) {
+                        values.put(dependency.getTemplateId(),
+                            executeDependency(executionPlan, dependency, values, inputKeys, inputParameters, payload)
+                                .cache());
+                    }
+                }
+                return combineValues(executionPlan.dependencies(template), values, inputKeys)
+                    .flatMap(queryInputs -> {
+                        final long startTime = System.nanoTime();
+                        return Flux.fromIterable(queryInputs)
+                            .flatMapSequential(queryInput -> {
+                                final Mono<ExecutionResult> executionResult =
+                                    execute(template, queryInput, payload, template.getModel());
+                                return appConfiguration.getMultipleQuery().isFailFast() ? executionResult
+                                    : executionResult.onErrorResume(RuntimeException.class,
+                                        e -> Mono.just(executionBusinessLogic.toErrorResult(e)));
+                            }, Math.max(1, executionBusinessLogic.multipleQueryConcurrency(template)))
+                            .collectList()
+                            .map(processedQueryOutput -> executionMetrics.record(ExecutionMetrics.SERIALIZE,
+                                template, () -> ExecutionBusinessLogic.joinResults(processedQueryOutput)))
+                            .doOnNext(result -> {
+                                executionPlan.recordTiming(template, startTime, System.nanoTime());
+                                executionMetrics.recordCriticalPath(template, executionPlan.criticalPath());
+                            })
+                            .onErrorMap(e -> new OutputTransformationException(e.getLocalizedMessage()));
+                    });
+            });
+    }
+
+    /**
+     * Values of a dependency of a plan. The values of its own dependencies are awaited together, so
+     * that independent branches of the plan run at the same time.
+     */
+    private Mono<List<String>> executeDependency(final ExecutionPlan executionPlan, final Template dependency,
+                                                 final Map<String, Mono<List<String>>> values,
+                                                 final Map<String, String> inputKeys,
+                                                 final Map<String, String> inputParameters,
+                                                 final RawJson payload) {
+        final List<Template> dependencies = executionPlan.dependencies(dependency);
+        final String schemaSet = executionPlan.getRoot().getModel();
+        if (dependencies.isEmpty()) {
+            return Mono.defer(() -> {
+                final long startTime = System.nanoTime();
+                return execute(dependency, inputParameters, payload, schemaSet)
+                    .map(ExecutionBusinessLogic::toQueryParameters)
+                    .doOnNext(queryParameters ->
+                        executionPlan.recordTiming(dependency, startTime, System.nanoTime()));
+            });
+        }
+        return combineValues(dependencies, values, inputKeys).flatMap(dependencyInputs -> {
+            final long startTime = System.nanoTime();
+            return Flux.fromIterable(dependencyInputs)
+                .flatMapSequential(dependencyInput -> execute(dependency, dependencyInput, payload, schemaSet)
+                    .map(ExecutionBusinessLogic::toQueryParameters),
+                    Math.max(1, executionBusinessLogic.multipleQueryConcurrency(dependency)))
+                .flatMapIterable(queryParameters -> queryParameters)
+                .collectList()
+                .doOnNext(queryParameters -> executionPlan.recordTiming(dependency, startTime, System.nanoTime()));
+        });
+    }
+
+    private Mono<List<Map<String, String>>> combineValues(final List<Template> dependencies,
+                                                          final Map<String, Mono<List<String>>> values,
+                                                          final Map<String, String> inputKeys) {
+        final List<Mono<List<String>>> dependencyValues = new ArrayList<>(dependencies.size());
+        for (final Template dependency : dependencies) {
+            dependencyValues.add(values.get(dependency.getTemplateId()));
+        }
+        return Mono.zip(dependencyValues, valuesByDependency -> {
+            final Map<String, List<String>> valuesById = new HashMap<>();
+            for (int i = 0; i < dependencies.size(); i++) {
+                @SuppressWarnings("unchecked")
+                final List<String> dependencyValue = (List<String>) valuesByDependency[i];
+                valuesById.put(dependencies.get(i).getTemplateId(), dependencyValue);
+            }
+            return ExecutionBusinessLogic.combineValues(dependencies, valuesById, inputKeys,
+                appConfiguration.getMultipleQuery().getMaxCombinations());
+        });
+    }
+
+    private Mono<Template> findTemplate(final String templateId) {
+        return Mono.defer(() -> {
+            final TemplateKey templateKey = new TemplateKey(templateId);
+            final Timer.Sample sample = executionMetrics.start();
+            final Optional<Template> cachedTemplate = templateCache.getIfPresent(templateKey);
+            final Mono<Optional<Template>> template = cachedTemplate.isPresent() ? Mono.just(cachedTemplate)
+                : Mono.fromCallable(() -> templateCache.findById(templateKey)).subscribeOn(Schedulers.boundedElastic());
+            return template.flatMap(foundTemplate -> {
+                executionMetrics.stop(sample, ExecutionMetrics.LOOKUP, foundTemplate.orElse(null),
+                    foundTemplate.isPresent() ? ExecutionMetrics.SUCCESS : ExecutionMetrics.NOT_FOUND);
+                return Mono.justOrEmpty(foundTemplate);
+            });
+        });
+    }
+
+    private Mono<ExecutionResult> execute(final Template template, final Map<String, String> inputParameters,
+                                          final RawJson payload, final String schemaSet) {
+        return Mono.defer(() -> {
+            final String anchor = executionBusinessLogic.resolveAnchor(template, schemaSet);
+            final String xpath = executionMetrics.record(ExecutionMetrics.RENDER, template,
+                () -> xpathTemplateRegistry.render(template, inputParameters));
+            final String backend = appConfiguration.getCpsClient();
+            final String requestType = template.getRequestType();
+            if (ExecutionBusinessLogic.isAddRequest(requestType)) {
+                // post creates the data at the root of the anchor
+                final String writtenXpath = "post".equalsIgnoreCase(requestType) ? "/" : xpath;
+                return recordCps(template, reactiveCpsClient.addData(anchor, xpath, requestType, payload))
+                    .doFinally(signal -> readResultCache.invalidate(backend, anchor, writtenXpath))
+                    .map(result -> ExecutionResult.ofJson(jsonCodec, result));
+            } else if (ExecutionBusinessLogic.isDeleteRequest(requestType)) {
+                return recordCps(template, reactiveCpsClient.deleteData(anchor, xpath, requestType))
+                    .doFinally(signal -> readResultCache.invalidate(backend, anchor, xpath))
+                    .map(result -> ExecutionResult.ofJson(jsonCodec, result));
+            }
+            return readTransformed(template, anchor, xpath);
+        }).onErrorMap(CpsClientException.class, e -> new ExecuteException(e.getLocalizedMessage()));
+    }
+
+    /**
+     * Read the node of a template and apply its transformParam, through the push-down of the template
+     * as {@link ExecutionBusinessLogic} does. The narrower read being verified is subscribed to once
+     * the read of the template completed.
+     */
+    private Mono<ExecutionResult> readTransformed(final Template template, final String anchor, final String xpath) {
+        final TransformPushDownConfiguration pushDownConfiguration = transformPushDownPlanner.configuration();
+        final TransformPushDown pushDown = pushDownConfiguration.isEnabled()
+            && !StringUtils.isBlank(template.getTransformParam()) ? transformPushDownPlanner.pushDown(template) : null;
+        final Candidate candidate = pushDown == null ? null : pushDown.candidate();
+        if (candidate == null) {
+            return read(template, anchor, xpath, template.getIncludeDescendants())
+                .map(result -> executionBusinessLogic.toExecutionResult(template, result));
+        }
+        if (pushDown.isVerified(candidate, pushDownConfiguration.getShadowExecutions(),
+                pushDownConfiguration.getReverifyEvery())) {
+            return read(template, anchor, candidate.xpath(xpath), candidate.getIncludeDescendants())
+                .doOnNext(pushedResult -> executionBusinessLogic.recordPushedRead(template, pushDown, pushedResult))
+                .map(pushedResult ->
+                    executionBusinessLogic.toExecutionResult(template, candidate.getStages(), pushedResult));
+        }
+        return read(template, anchor, xpath, template.getIncludeDescendants()).flatMap(result -> {
+            final ExecutionResult executionResult = executionBusinessLogic.toExecutionResult(template, result);
+            return read(template, anchor, candidate.xpath(xpath), candidate.getIncludeDescendants())
+                .doOnNext(pushedResult -> executionBusinessLogic.recordShadowExecution(template, pushDown, candidate,
+                    result, executionResult, pushedResult))
+                .then()
+                .onErrorResume(Exception.class, e -> {
+                    executionBusinessLogic.recordShadowFailure(template, pushDown, candidate, result, e);
+                    return Mono.empty();
+                })
+                .thenReturn(executionResult);
+        });
+    }
+
+    private Mono<String> read(final Template template, final String anchor, final String xpath,
+                              final Boolean includeDescendants) {
+        final CpsReadKey cpsReadKey = new CpsReadKey(appConfiguration.getCpsClient(), anchor, xpath,
+            template.getRequestType(), includeDescendants);
+        return recordCps(template, fetchNode(template, cpsReadKey));
+    }
+
+    private Mono<String> fetchNode(final Template template, final CpsReadKey cpsReadKey) {
+        final Optional<String> cachedResult = readResultCache.get(template, cpsReadKey);
+        if (cachedResult.isPresent()) {
+            return Mono.just(cachedResult.get());
+        }
+        return coalescingReader.coalesce(cpsReadKey, () -> Mono.defer(() -> {
+            final long writeGeneration = readResultCache.writeGeneration();
+            return reactiveCpsClient.fetchNode(cpsReadKey.getAnchor(), cpsReadKey.getXpath(),
+                    cpsReadKey.getRequestType(), cpsReadKey.getIncludeDescendants())
+                .doOnNext(result -> readResultCache.put(template, cpsReadKey, result, writeGeneration));
+        }));
+    }
+
+    private Mono<String> recordCps(final Template template, final Mono<String> cpsCall) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = executionMetrics.start();
+            return cpsCall
+                .doOnSuccess(result -> executionMetrics.stop(sample, ExecutionMetrics.CPS, template,
+                    ExecutionMetrics.SUCCESS))
+                .doOnError(e -> executionMetrics.stop(sample, ExecutionMetrics.CPS, template, ExecutionMetrics.ERROR));
+        });
+    }
+}
@@ -0,0 +1,178 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.ResultCacheConfiguration;
+import org.onap.cps.tbdmt.model.Template;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional cache of the responses of reads towards CPS. Entries expire after the time to live of the
+ * template which read them and are dropped when a write executed by this service overlaps them.
+ */
+@Component
+public class ReadResultCache {
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<CpsReadKey, CachedResult> results;
+
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    /**
+     * Build the cache from the configuration and register its metrics.
+     */
+    @PostConstruct
+    public void initialize() {
+        results = Caffeine.newBuilder()
+            .maximumSize(appConfiguration.getResultCache().getMaximumSize())
+            .expireAfter(new Expiry<CpsReadKey, CachedResult>() {
+
+                @Override
+                public long expireAfterCreate(final CpsReadKey key, final CachedResult value,
+                                              final long currentTime) {
+                    return value.timeToLiveNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(final CpsReadKey key, final CachedResult value,
+                                              final long currentTime, final long currentDuration) {
+                    return value.timeToLiveNanos;
+                }
+
+                @Override
+                public long expireAfterRead(final CpsReadKey key, final CachedResult value,
+                                            final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "tbdmt.read.results");
+    }
+
+    /**
+     * Generation of the writes, to be taken before reading from CPS and handed back to put.
+     *
+     * @return current write generation
+     */
+    public long writeGeneration() {
+        return writeGeneration.get();
+    }
+
+    /**
+     * Whether the responses of the reads of a template are cached.
+     *
+     * @param template template executing reads
+     * @return true if the responses are cached
+     */
+    public boolean isCached(final Template template) {
+        return timeToLiveSeconds(template) > 0;
+    }
+
+    /**
+     * Find the cached response of a read.
+     *
+     * @param template template executing the read
+     * @param cpsReadKey read towards CPS
+     * @return cached response if any
+     */
+    public Optional<String> get(final Template template, final CpsReadKey cpsReadKey) {
+        if (timeToLiveSeconds(template) <= 0) {
+            return Optional.empty();
+        }
+        final CachedResult cachedResult = results.getIfPresent(cpsReadKey);
+        return cachedResult == null ? Optional.empty() : Optional.of(cachedResult.result);
+    }
+
+    /**
+     * Store the response of a read. The response is not kept if a write has been executed since the
+     * read started, as it may predate the write.
+     *
+     * @param template template executing the read
+     * @param cpsReadKey read towards CPS
+     * @param result response from CPS
+     * @param generation write generation taken before the read started
+     */
+    public void put(final Template template, final CpsReadKey cpsReadKey, final String result,
+                    final long generation) {
+        final long timeToLiveSeconds = timeToLiveSeconds(template);
+        if (timeToLiveSeconds <= 0 || result == null || generation != writeGeneration.get()) {
+            return;
+        }
+        results.put(cpsReadKey, new CachedResult(result, TimeUnit.SECONDS.toNanos(timeToLiveSeconds)));
+        // a write completing while the entry was stored did not see it
+        if (generation != writeGeneration.get()) {
+            results.invalidate(cpsReadKey);
+        }
+    }
+
+    /**
+     * Drop the cached responses which may have been changed by a write.
+     *
+     * @param backend backend of the write
+     * @param anchor anchor of the write
+     * @param xpath xpath of the write
+     */
+    public void invalidate(final String backend, final String anchor, final String xpath) {
+        if (!appConfiguration.getResultCache().isEnabled()) {
+            return;
+        }
+        writeGeneration.incrementAndGet();
+        results.asMap().keySet().removeIf(cpsReadKey -> cpsReadKey.isAffectedBy(backend, anchor, xpath));
+    }
+
+    private long timeToLiveSeconds(final Template template) {
+        final ResultCacheConfiguration resultCacheConfiguration = appConfiguration.getResultCache();
+        if (!resultCacheConfiguration.isEnabled()) {
+            return 0;
+        }
+        return resultCacheConfiguration.getTemplateTimeToLiveSeconds()
+            .getOrDefault(template.getTemplateId(), resultCacheConfiguration.getTimeToLiveSeconds());
+    }
+
+    private static class CachedResult {
+
+        private final String result;
+
+        private final long timeToLiveNanos;
+
+        CachedResult(final String result, final long timeToLiveNanos) {
+            this.result = result;
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+    }
+}
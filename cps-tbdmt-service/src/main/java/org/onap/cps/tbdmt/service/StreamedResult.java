@@ -0,0 +1,40 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Result written to the caller as it becomes available, instead of being buffered: the response of a
+ * read passed through from CPS, or the results of a multiple query as they complete.
+ */
+@FunctionalInterface
+public interface StreamedResult {
+
+    /**
+     * Complete the execution and write its result.
+     *
+     * @param outputStream stream receiving the result
+     * @throws IOException if the response cannot be written
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
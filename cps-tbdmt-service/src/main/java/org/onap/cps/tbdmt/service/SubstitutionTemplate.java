@@ -0,0 +1,140 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Xpath template made only of literal text and {{ variable }} expressions, rendered without the template
+ * engine. The literals and the variable names alternate, starting and ending with a literal.
+ */
+public final class SubstitutionTemplate {
+
+    private static final String EXPRESSION_START = "{{";
+
+    private static final String EXPRESSION_END = "}}";
+
+    private static final Pattern VARIABLE = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    // names which Jinjava reads as literals or operators rather than as variables
+    private static final Set<String> RESERVED_NAMES = Set.of("true", "false", "none", "null", "True", "False",
+        "None", "and", "or", "not", "in", "is", "if", "else");
+
+    private final String[] literals;
+
+    private final String[] variables;
+
+    private final int literalLength;
+
+    private SubstitutionTemplate(final List<String> literals, final List<String> variables) {
+        this.literals = literals.toArray(new String[0]);
+        this.variables = variables.toArray(new String[0]);
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        literalLength = length;
+    }
+
+    /**
+     * Analyse an xpath template.
+     *
+     * @param xpathTemplate xpath template
+     * @return the compiled template, or null if the template needs the template engine
+     */
+    public static SubstitutionTemplate compile(final String xpathTemplate) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            final int start = xpathTemplate.indexOf(EXPRESSION_START, position);
+            final String literal = xpathTemplate.substring(position, start < 0 ? xpathTemplate.length() : start);
+            if (containsMarkup(literal)) {
+                return null;
+            }
+            literals.add(literal);
+            if (start < 0) {
+                return new SubstitutionTemplate(literals, variables);
+            }
+            final int end = xpathTemplate.indexOf(EXPRESSION_END, start + EXPRESSION_START.length());
+            if (end < 0) {
+                return null;
+            }
+            final String variable = xpathTemplate.substring(start + EXPRESSION_START.length(), end).trim();
+            if (!VARIABLE.matcher(variable).matches() || RESERVED_NAMES.contains(variable)) {
+                return null;
+            }
+            variables.add(variable);
+            position = end + EXPRESSION_END.length();
+        }
+    }
+
+    /**
+     * Whether the template renders the parameters as the template engine would. Values holding markup
+     * are interpreted again by the engine when nested interpretation is enabled.
+     *
+     * @param templateParameters parameters to be applied
+     * @return true if {@link #render(Map)} can be used
+     */
+    public boolean canRender(final Map<String, String> templateParameters) {
+        for (final String variable : variables) {
+            final String value = valueOf(templateParameters, variable);
+            if (value != null && containsMarkup(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Render the template. Missing parameters render as empty text.
+     *
+     * @param templateParameters parameters to be applied
+     * @return rendered xpath
+     */
+    public String render(final Map<String, String> templateParameters) {
+        final String[] values = new String[variables.length];
+        int length = literalLength;
+        for (int index = 0; index < variables.length; index++) {
+            final String value = valueOf(templateParameters, variables[index]);
+            values[index] = value == null ? "" : value;
+            length += values[index].length();
+        }
+        final StringBuilder xpath = new StringBuilder(length);
+        xpath.append(literals[0]);
+        for (int index = 0; index < values.length; index++) {
+            xpath.append(values[index]).append(literals[index + 1]);
+        }
+        return xpath.toString();
+    }
+
+    private static String valueOf(final Map<String, String> templateParameters, final String variable) {
+        return templateParameters == null ? null : templateParameters.get(variable);
+    }
+
+    private static boolean containsMarkup(final String text) {
+        return text.contains("{{") || text.contains("{%") || text.contains("{#");
+    }
+}
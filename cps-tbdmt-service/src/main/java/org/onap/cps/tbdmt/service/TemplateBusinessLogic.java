@@ -28,6 +28,7 @@ import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
 import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.model.TemplateKey;
 import org.onap.cps.tbdmt.model.TemplateRequest;
+import org.onap.cps.tbdmt.model.TransformPlan;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -39,8 +40,17 @@ public class TemplateBusinessLogic {
     @Autowired
     private TemplateRepository templateRepository;
 
+    @Autowired
+    private TemplateCache templateCache;
+
+    @Autowired
+    private XpathTemplateRegistry xpathTemplateRegistry;
+
+    @Autowired
+    private TransformPushDownPlanner transformPushDownPlanner;
+
     /**
-     * Create Template.
+     * Create Template. Templates whose multiple query templates lead back to them are rejected.
      *
      * @param templateRequest request object
      * @return template
@@ -50,7 +60,12 @@ public class TemplateBusinessLogic {
                 templateRequest.getXpathTemplate(), templateRequest.getRequestType(),
                 templateRequest.getIncludeDescendants(), templateRequest.getMultipleQueryTemplateId(),
                 templateRequest.getTransformParam());
-        return templateRepository.save(template);
+        ExecutionPlan.checkAcyclic(template, templateId -> templateCache.findById(new TemplateKey(templateId)));
+        final Template savedTemplate = templateRepository.save(template);
+        templateCache.put(savedTemplate);
+        xpathTemplateRegistry.register(savedTemplate);
+        transformPushDownPlanner.register(savedTemplate);
+        return savedTemplate;
     }
 
     /**
@@ -81,6 +96,16 @@ public class TemplateBusinessLogic {
         }
     }
 
+    /**
+     * Get the transform push-down plan of a template.
+     *
+     * @param templateKey template id to find the template
+     * @return plan with its verification status and the data it saves
+     */
+    public TransformPlan getTransformPlan(final TemplateKey templateKey) {
+        return transformPushDownPlanner.report(getTemplate(templateKey));
+    }
+
     /**
      * Delete Template.
      *
@@ -89,6 +114,9 @@ public class TemplateBusinessLogic {
     public void deleteTemplate(final TemplateKey templateKey) {
         if (templateRepository.existsById(templateKey)) {
             templateRepository.deleteById(templateKey);
+            templateCache.invalidate(templateKey);
+            xpathTemplateRegistry.invalidate(templateKey);
+            transformPushDownPlanner.invalidate(templateKey);
         } else {
             final String errorMessage = String.format(TEMPLATE_NOT_FOUND_ERROR,
                 templateKey.getTemplateId());
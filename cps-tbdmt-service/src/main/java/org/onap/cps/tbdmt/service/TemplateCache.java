@@ -0,0 +1,118 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.CacheConfiguration;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process copy of the templates which serves the execute path without a database round trip.
+ */
+@Component
+public class TemplateCache {
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<TemplateKey, Template> templates;
+
+    /**
+     * Build the cache from the configuration and register its metrics.
+     */
+    @PostConstruct
+    public void initialize() {
+        final CacheConfiguration cacheConfiguration = appConfiguration.getTemplateCache();
+        templates = Caffeine.newBuilder()
+            .maximumSize(cacheConfiguration.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(cacheConfiguration.getTimeToLiveSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, templates, "tbdmt.templates");
+        Gauge.builder("tbdmt.template.cache.hit.ratio", templates, cache -> cache.stats().hitRate())
+            .description("Ratio of template lookups served from the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Find a template, loading it from the database when it is not cached.
+     *
+     * @param templateKey template id to find the template
+     * @return template if it exists
+     */
+    public Optional<Template> findById(final TemplateKey templateKey) {
+        return Optional.ofNullable(templates.get(templateKey,
+            key -> templateRepository.findById(key).orElse(null)));
+    }
+
+    /**
+     * Find a template without going to the database.
+     *
+     * @param templateKey template id to find the template
+     * @return template if it is cached
+     */
+    public Optional<Template> getIfPresent(final TemplateKey templateKey) {
+        return Optional.ofNullable(templates.getIfPresent(templateKey));
+    }
+
+    /**
+     * Store a template which has been written to the database.
+     *
+     * @param template saved template
+     */
+    public void put(final Template template) {
+        templates.put(new TemplateKey(template.getTemplateId()), template);
+    }
+
+    /**
+     * Remove a template which has been deleted from the database.
+     *
+     * @param templateKey template id of the deleted template
+     */
+    public void invalidate(final TemplateKey templateKey) {
+        templates.invalidate(templateKey);
+    }
+
+    /**
+     * Remove every template, so that the next lookups go to the database.
+     */
+    public void invalidateAll() {
+        templates.invalidateAll();
+    }
+}
@@ -0,0 +1,296 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TransformPlan;
+
+/**
+ * Plan to push the transformParam of a template into its read from CPS. The response of a node read
+ * holds the node under its own name, so a transformParam which goes through a child of the node can
+ * read that child instead, and one which selects a member of the node can read it without
+ * descendants. Whether the response is shaped that way is not known when the template is saved:
+ * candidates are tried in order of the data they save, each of them executed next to the template as
+ * it is for a number of executions, and used only once their transformed output was identical every
+ * time. A candidate whose output differs, or whose read fails, is dropped for the next one.
+ */
+public final class TransformPushDown {
+
+    static final String NONE = "none";
+
+    static final String VERIFYING = "verifying";
+
+    static final String ACTIVE = "active";
+
+    static final String REJECTED = "rejected";
+
+    private final String xpathTemplate;
+
+    private final String transformParam;
+
+    private final Boolean includeDescendants;
+
+    private final String requestType;
+
+    private final List<Candidate> candidates;
+
+    private volatile int candidateIndex;
+
+    private volatile int verifiedExecutions;
+
+    private volatile String reason;
+
+    private final AtomicLong executions = new AtomicLong();
+
+    private final LongAdder originalSize = new LongAdder();
+
+    private final LongAdder originalReads = new LongAdder();
+
+    private final LongAdder pushedSize = new LongAdder();
+
+    private final LongAdder pushedReads = new LongAdder();
+
+    private TransformPushDown(final Template template, final List<Candidate> candidates, final String reason) {
+        this.xpathTemplate = template.getXpathTemplate();
+        this.transformParam = template.getTransformParam();
+        this.includeDescendants = template.getIncludeDescendants();
+        this.requestType = template.getRequestType();
+        this.candidates = candidates;
+        this.reason = reason;
+    }
+
+    /**
+     * Analyse the transformParam of a template against its xpathTemplate.
+     *
+     * @param template template
+     * @return plan, without candidates if nothing can be pushed into the read
+     */
+    public static TransformPushDown analyse(final Template template) {
+        if (StringUtils.isBlank(template.getTransformParam())) {
+            return none(template, "Template has no transformParam");
+        }
+        if (!"get".equalsIgnoreCase(template.getRequestType())) {
+            return none(template, "Only get requests read a single node");
+        }
+        final String xpathTemplate = StringUtils.trimToEmpty(template.getXpathTemplate());
+        if (xpathTemplate.contains("{%") || xpathTemplate.endsWith("/") || !xpathTemplate.startsWith("/")) {
+            return none(template, "xpathTemplate does not end with a node step");
+        }
+        final List<String> stages = Arrays.asList(template.getTransformParam().trim().split("\\s*,\\s*"));
+        // the first stage is skipped when it names the node itself, in which case CPS wraps the node
+        final int wrapper = stages.get(0).equals(localName(lastStep(xpathTemplate))) ? 1 : 0;
+        final boolean narrow = stages.size() - wrapper >= 2 && stages.get(wrapper).matches("[\\w.-]+(:[\\w.-]+)?");
+        final boolean descendants = Boolean.TRUE.equals(template.getIncludeDescendants());
+        final List<Candidate> candidates = new ArrayList<>();
+        final List<String> narrowedStages = narrow ? stages.subList(1, stages.size()) : null;
+        if (narrow && descendants && narrowedStages.size() - wrapper == 1) {
+            candidates.add(new Candidate(stages.get(wrapper), false, narrowedStages));
+        }
+        if (narrow) {
+            candidates.add(new Candidate(stages.get(wrapper), template.getIncludeDescendants(), narrowedStages));
+        }
+        if (descendants && stages.size() - wrapper == 1) {
+            candidates.add(new Candidate(null, false, stages));
+        }
+        if (candidates.isEmpty()) {
+            return none(template, "transformParam selects the whole node, or the node is read without descendants");
+        }
+        return new TransformPushDown(template, Collections.unmodifiableList(candidates), null);
+    }
+
+    private static TransformPushDown none(final Template template, final String reason) {
+        return new TransformPushDown(template, Collections.emptyList(), reason);
+    }
+
+    private static String lastStep(final String xpath) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = xpath.length() - 1; i >= 0; i--) {
+            final char c = xpath.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == ']') {
+                depth++;
+            } else if (c == '[') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                final String step = xpath.substring(i + 1);
+                final int predicate = step.indexOf('[');
+                return predicate < 0 ? step : step.substring(0, predicate);
+            }
+        }
+        return xpath;
+    }
+
+    private static String localName(final String step) {
+        return step.substring(step.indexOf(':') + 1);
+    }
+
+    /**
+     * Check whether the plan was made for the template as it is now.
+     *
+     * @param template template
+     * @return true if the fields the plan depends on did not change
+     */
+    boolean isPlanOf(final Template template) {
+        return Objects.equals(xpathTemplate, template.getXpathTemplate())
+            && Objects.equals(transformParam, template.getTransformParam())
+            && Objects.equals(includeDescendants, template.getIncludeDescendants())
+            && Objects.equals(requestType, template.getRequestType());
+    }
+
+    /**
+     * Candidate being verified or used.
+     *
+     * @return candidate, or null if none is left
+     */
+    public Candidate candidate() {
+        final int index = candidateIndex;
+        return index < candidates.size() ? candidates.get(index) : null;
+    }
+
+    /**
+     * Check whether the output of a candidate was identical for enough executions to use it alone. One
+     * execution in every reverifyEvery executes the template as it is again, to check the candidate
+     * against the data of the time.
+     *
+     * @param candidate candidate
+     * @param shadowExecutions identical executions needed
+     * @param reverifyEvery executions between two checks once the candidate is used
+     * @return true if the candidate is read alone
+     */
+    public boolean isVerified(final Candidate candidate, final int shadowExecutions, final int reverifyEvery) {
+        if (candidate != candidate() || verifiedExecutions < shadowExecutions) {
+            return false;
+        }
+        return reverifyEvery <= 0 || executions.incrementAndGet() % reverifyEvery != 0;
+    }
+
+    /**
+     * Record an execution of a candidate next to the template as it is.
+     *
+     * @param candidate candidate executed
+     * @param identical whether the transformed outputs were identical
+     * @param originalReadSize size of the response of the template as it is
+     * @param pushedReadSize size of the response of the candidate, 0 if its read failed
+     * @param failure why the outputs differ, if they do
+     */
+    public synchronized void recordShadowExecution(final Candidate candidate, final boolean identical,
+                                                   final long originalReadSize, final long pushedReadSize,
+                                                   final String failure) {
+        if (candidate != candidate()) {
+            return;
+        }
+        originalSize.add(originalReadSize);
+        originalReads.increment();
+        if (identical) {
+            verifiedExecutions++;
+            pushedSize.add(pushedReadSize);
+            pushedReads.increment();
+            return;
+        }
+        reason = failure;
+        verifiedExecutions = 0;
+        pushedSize.reset();
+        pushedReads.reset();
+        candidateIndex++;
+    }
+
+    /**
+     * Record a read of a candidate used alone.
+     *
+     * @param pushedReadSize size of the response
+     */
+    public void recordPushedRead(final long pushedReadSize) {
+        pushedSize.add(pushedReadSize);
+        pushedReads.increment();
+    }
+
+    /**
+     * Report of the plan.
+     *
+     * @param templateId template id
+     * @param shadowExecutions identical executions needed before a candidate is used
+     * @return plan as reported to the user
+     */
+    public TransformPlan report(final String templateId, final int shadowExecutions) {
+        final TransformPlan transformPlan = new TransformPlan();
+        transformPlan.setTemplateId(templateId);
+        transformPlan.setReason(reason);
+        final Candidate candidate = candidate();
+        if (candidate == null) {
+            transformPlan.setStatus(candidates.isEmpty() ? NONE : REJECTED);
+            return transformPlan;
+        }
+        transformPlan.setStatus(verifiedExecutions < shadowExecutions ? VERIFYING : ACTIVE);
+        transformPlan.setXpathSuffix(candidate.getChildStep() == null ? "" : "/" + candidate.getChildStep());
+        transformPlan.setIncludeDescendants(candidate.getIncludeDescendants());
+        transformPlan.setTransformParam(String.join(", ", candidate.getStages()));
+        transformPlan.setVerifiedExecutions(verifiedExecutions);
+        transformPlan.setOriginalSize(average(originalSize, originalReads));
+        transformPlan.setPushedSize(average(pushedSize, pushedReads));
+        if (originalReads.sum() > 0 && pushedReads.sum() > 0) {
+            transformPlan.setSavedSize(transformPlan.getOriginalSize() - transformPlan.getPushedSize());
+        }
+        return transformPlan;
+    }
+
+    private static long average(final LongAdder size, final LongAdder reads) {
+        final long count = reads.sum();
+        return count == 0 ? 0 : size.sum() / count;
+    }
+
+    /**
+     * A read narrower than that of the template with the transformParam that applies to it.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Candidate {
+
+        private final String childStep;
+
+        private final Boolean includeDescendants;
+
+        private final List<String> stages;
+
+        /**
+         * Xpath of the candidate.
+         *
+         * @param xpath rendered xpath of the template
+         * @return xpath to read
+         */
+        public String xpath(final String xpath) {
+            return childStep == null ? xpath : xpath + "/" + childStep;
+        }
+    }
+}
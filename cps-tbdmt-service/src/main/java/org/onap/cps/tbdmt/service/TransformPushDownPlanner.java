@@ -0,0 +1,91 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.onap.cps.tbdmt.model.TransformPlan;
+import org.onap.cps.tbdmt.model.TransformPushDownConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link TransformPushDown} of every template, planned when the template is saved or, for
+ * templates saved by another instance, when it is first executed.
+ */
+@Component
+public class TransformPushDownPlanner {
+
+    private static final long MAXIMUM_TEMPLATES = 10000;
+
+    private final Cache<TemplateKey, TransformPushDown> pushDowns = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_TEMPLATES)
+        .build();
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    /**
+     * Plan the push-down of a saved template, dropping the verification of the previous version.
+     *
+     * @param template saved template
+     */
+    public void register(final Template template) {
+        pushDowns.put(new TemplateKey(template.getTemplateId()), TransformPushDown.analyse(template));
+    }
+
+    public void invalidate(final TemplateKey templateKey) {
+        pushDowns.invalidate(templateKey);
+    }
+
+    /**
+     * Push-down of a template.
+     *
+     * @param template template
+     * @return push-down, planned for the template as it is now
+     */
+    public TransformPushDown pushDown(final Template template) {
+        final TemplateKey templateKey = new TemplateKey(template.getTemplateId());
+        TransformPushDown pushDown = pushDowns.get(templateKey, key -> TransformPushDown.analyse(template));
+        if (!pushDown.isPlanOf(template)) {
+            pushDown = TransformPushDown.analyse(template);
+            pushDowns.put(templateKey, pushDown);
+        }
+        return pushDown;
+    }
+
+    /**
+     * Report the push-down of a template.
+     *
+     * @param template template
+     * @return plan as reported to the user
+     */
+    public TransformPlan report(final Template template) {
+        return pushDown(template).report(template.getTemplateId(), configuration().getShadowExecutions());
+    }
+
+    TransformPushDownConfiguration configuration() {
+        return appConfiguration.getTransformPushDown();
+    }
+}
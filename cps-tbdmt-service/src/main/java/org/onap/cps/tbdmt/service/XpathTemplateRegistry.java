@@ -0,0 +1,188 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the parsed node tree of every xpath template so that executions only render it. Templates made
+ * only of literal text and variables are also compiled into a {@link SubstitutionTemplate}, which
+ * renders them without the template engine.
+ */
+@Component
+public class XpathTemplateRegistry {
+
+    private static final long MAXIMUM_TEMPLATES = 10000;
+
+    private final Jinjava jinjava = new Jinjava();
+
+    private final Cache<TemplateKey, CompiledXpathTemplate> compiledTemplates = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_TEMPLATES)
+        .recordStats()
+        .build();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer compileTimer;
+
+    private Counter substitutionRenders;
+
+    private Counter jinjavaRenders;
+
+    /**
+     * Register the cache statistics and the compile timer.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, compiledTemplates, "tbdmt.xpath.templates");
+        compileTimer = Timer.builder("tbdmt.xpath.template.compile")
+            .description("Time taken to parse an xpath template")
+            .register(meterRegistry);
+        substitutionRenders = renderCounter("substitution");
+        jinjavaRenders = renderCounter("jinjava");
+    }
+
+    private Counter renderCounter(final String renderer) {
+        return Counter.builder("tbdmt.xpath.template.render")
+            .description("Xpath templates rendered, by renderer")
+            .tag("renderer", renderer)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Render the xpath template of a template with the given parameters.
+     *
+     * @param template template holding the xpath template
+     * @param templateParameters parameters to be applied to the xpath template
+     * @return rendered xpath
+     */
+    public String render(final Template template, final Map<String, String> templateParameters) {
+        final String xpathTemplate = template.getXpathTemplate();
+        final TemplateKey templateKey = new TemplateKey(template.getTemplateId());
+        CompiledXpathTemplate compiledXpathTemplate =
+            compiledTemplates.get(templateKey, key -> compile(xpathTemplate));
+        if (!compiledXpathTemplate.getSource().equals(xpathTemplate)) {
+            compiledXpathTemplate = compile(xpathTemplate);
+            compiledTemplates.put(templateKey, compiledXpathTemplate);
+        }
+        final SubstitutionTemplate substitutionTemplate = compiledXpathTemplate.getSubstitutionTemplate();
+        if (substitutionTemplate != null && substitutionTemplate.canRender(templateParameters)) {
+            substitutionRenders.increment();
+            return substitutionTemplate.render(templateParameters);
+        }
+        jinjavaRenders.increment();
+        final JinjavaInterpreter interpreter = newInterpreter(templateParameters);
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            final String xpath = interpreter.render(compiledXpathTemplate.getRoot());
+            throwIfFatal(xpathTemplate, interpreter);
+            return xpath;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    /**
+     * Compile the xpath template of a saved template ahead of its first execution. A template which
+     * does not compile is reported when it is executed.
+     *
+     * @param template saved template
+     */
+    public void register(final Template template) {
+        final TemplateKey templateKey = new TemplateKey(template.getTemplateId());
+        try {
+            compiledTemplates.put(templateKey, compile(template.getXpathTemplate()));
+        } catch (final RuntimeException e) {
+            compiledTemplates.invalidate(templateKey);
+        }
+    }
+
+    /**
+     * Drop the compiled xpath template of a template.
+     *
+     * @param templateKey key of the template which is changed or removed
+     */
+    public void invalidate(final TemplateKey templateKey) {
+        compiledTemplates.invalidate(templateKey);
+    }
+
+    private CompiledXpathTemplate compile(final String xpathTemplate) {
+        final long startTime = System.nanoTime();
+        final JinjavaInterpreter interpreter = newInterpreter(Map.of());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            final Node root = interpreter.parse(xpathTemplate);
+            throwIfFatal(xpathTemplate, interpreter);
+            return new CompiledXpathTemplate(xpathTemplate, root, SubstitutionTemplate.compile(xpathTemplate));
+        } finally {
+            JinjavaInterpreter.popCurrent();
+            compileTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private JinjavaInterpreter newInterpreter(final Map<String, String> templateParameters) {
+        final Context context = new Context(jinjava.getGlobalContext(), templateParameters);
+        return new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+    }
+
+    private static void throwIfFatal(final String xpathTemplate, final JinjavaInterpreter interpreter) {
+        final List<TemplateError> errors = interpreter.getErrorsCopy();
+        for (final TemplateError error : errors) {
+            if (error.getSeverity() == ErrorType.FATAL) {
+                throw new FatalTemplateErrorsException(xpathTemplate, errors);
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CompiledXpathTemplate {
+
+        private final String source;
+
+        private final Node root;
+
+        private final SubstitutionTemplate substitutionTemplate;
+    }
+}
@@ -21,30 +21,45 @@
 package org.onap.cps.tbdmt.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
-import java.util.HashMap;
-import java.util.Map;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.exception.ResponseTooLargeException;
+import org.onap.cps.tbdmt.json.RawJson;
 import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.CpsConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -60,11 +75,22 @@ public class CpsRestClientTest {
         public CpsRestClient cpsRestClient() {
             return new CpsRestClient();
         }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
     }
 
     @Autowired
     private CpsRestClient cpsRestClient;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
     @MockBean
     private RestTemplate restTemplate;
 
@@ -80,6 +106,7 @@ public class CpsRestClientTest {
      */
     @Before
     public void setUp() {
+        meterRegistry.clear();
         responseHeaders = new HttpHeaders();
         responseHeaders.setContentType(MediaType.APPLICATION_JSON);
         response = new ResponseEntity<>("sample response", responseHeaders,
@@ -88,17 +115,22 @@ public class CpsRestClientTest {
 
     @Test
     public void testFetchNode() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/node?xpath=sample&include-descendants=true";
+        final URI uri =
+            URI.create("http://localhost:8000/anchors/coverage-area-onap/node?xpath=sample&include-descendants=true");
         Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(uri),
             ArgumentMatchers.any(HttpMethod.class),
             ArgumentMatchers.any(),
             ArgumentMatchers.<Class<String>>any()))
             .thenReturn(response);
         assertEquals("sample response", cpsRestClient.fetchNode("coverage-area-onap", "sample", "get", true));
+        assertEquals(1, meterRegistry.get("tbdmt.cps.request").tags("requestType", "get", "outcome", "success")
+            .timer().count());
+        assertEquals(15, meterRegistry.get("tbdmt.cps.response.size").tag("requestType", "get")
+            .summary().totalAmount(), 0);
 
         final ResponseEntity<String> errorResponse = new ResponseEntity<>("sample response",
             responseHeaders, HttpStatus.NOT_FOUND);
-        Mockito.when(restTemplate.exchange(ArgumentMatchers.anyString(),
+        Mockito.when(restTemplate.exchange(ArgumentMatchers.any(URI.class),
             ArgumentMatchers.any(HttpMethod.class),
             ArgumentMatchers.any(),
             ArgumentMatchers.<Class<String>>any()))
@@ -111,7 +143,8 @@ public class CpsRestClientTest {
 
     @Test
     public void testQueryApi() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/nodes/query?xpath=sample&include-descendants=true";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/nodes/query"
+            + "?xpath=sample&include-descendants=true");
         Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(uri),
             ArgumentMatchers.any(HttpMethod.class),
             ArgumentMatchers.any(),
@@ -120,9 +153,22 @@ public class CpsRestClientTest {
         assertEquals("sample response", cpsRestClient.fetchNode("coverage-area-onap", "sample", "query", true));
     }
 
+    @Test
+    public void testAnchorAndQueryParamsAreEncoded() throws Exception {
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage%20area/nodes/query"
+            + "?cps-path=/NearRTRIC%5B@idNearRTRIC%3D'11'%5D&include-descendants=false");
+        Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(uri),
+            ArgumentMatchers.any(HttpMethod.class),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.<Class<String>>any()))
+            .thenReturn(response);
+        assertEquals("sample response", cpsRestClient.fetchNode("coverage area",
+            "/NearRTRIC[@idNearRTRIC='11']", "query-cps-path", false));
+    }
+
     @Test
     public void testFetchNodeException() throws Exception {
-        Mockito.when(restTemplate.exchange(ArgumentMatchers.anyString(),
+        Mockito.when(restTemplate.exchange(ArgumentMatchers.any(URI.class),
             ArgumentMatchers.any(HttpMethod.class),
             ArgumentMatchers.any(),
             ArgumentMatchers.<Class<String>>any()))
@@ -134,52 +180,60 @@ public class CpsRestClientTest {
 
     @Test
     public void testAddDataForPostRequest() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/nodes";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/nodes");
         Mockito.when(restTemplate.postForEntity(ArgumentMatchers.eq(uri), ArgumentMatchers.any(),
                 ArgumentMatchers.<Class<String>>any())).thenReturn(response);
-        final Map<String, Object> payload = new HashMap<String, Object>();
-        payload.put("idNearRTRIC", 11);
+        final RawJson payload = RawJson.of("{\"idNearRTRIC\":11}");
         assertEquals("sample response", cpsRestClient.addData("coverage-area-onap", "NearRTRIC", "post", payload));
 
     }
 
     @Test
     public void testAddDataForPutRequest() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=NearRTRIC";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=NearRTRIC");
         Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(uri), ArgumentMatchers.any(HttpMethod.class),
                 ArgumentMatchers.any(), ArgumentMatchers.<Class<String>>any())).thenReturn(response);
-        final Map<String, Object> payload = new HashMap<String, Object>();
-        payload.put("idNearRTRIC", 11);
+        final RawJson payload = RawJson.of("{\"idNearRTRIC\":11}");
         assertEquals("sample response", cpsRestClient.addData("coverage-area-onap", "NearRTRIC", "put", payload));
 
     }
 
     @Test
     public void testAddDataForPatchRequest() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=NearRTRIC";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=NearRTRIC");
         Mockito.when(restTemplate.patchForObject(ArgumentMatchers.eq(uri), ArgumentMatchers.any(),
                 ArgumentMatchers.<Class<String>>any())).thenReturn("sample response");
-        final Map<String, Object> payload = new HashMap<String, Object>();
-        payload.put("idNearRTRIC", 11);
+        final RawJson payload = RawJson.of("{\"idNearRTRIC\":11}");
         assertEquals("sample response", cpsRestClient.addData("coverage-area-onap", "NearRTRIC", "patch", payload));
 
     }
 
     @Test
     public void testAddDataForPostListNodesRequest() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/list-nodes?xpath=NearRTRIC";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/list-nodes?xpath=NearRTRIC");
         Mockito.when(restTemplate.postForEntity(ArgumentMatchers.eq(uri), ArgumentMatchers.any(),
                 ArgumentMatchers.<Class<String>>any())).thenReturn(response);
-        final Map<String, Object> payload = new HashMap<String, Object>();
-        payload.put("idNearRTRIC", 11);
+        final RawJson payload = RawJson.of("{\"idNearRTRIC\":11}");
         assertEquals("sample response", cpsRestClient.addData("coverage-area-onap", "NearRTRIC",
                                "post-list-node", payload));
 
     }
 
+    @Test
+    public void testAddDataSendsPayloadAsReceived() throws Exception {
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/nodes");
+        final String payload = "{\"NearRTRIC\":{\"idNearRTRIC\":11,\"ratio\":1.50,\"power\":1.0E10}}";
+        Mockito.when(restTemplate.postForEntity(ArgumentMatchers.eq(uri),
+                ArgumentMatchers.<HttpEntity<byte[]>>argThat(entity -> payload.equals(
+                    new String(entity.getBody(), StandardCharsets.UTF_8))),
+                ArgumentMatchers.<Class<String>>any())).thenReturn(response);
+        assertEquals("sample response",
+            cpsRestClient.addData("coverage-area-onap", "NearRTRIC", "post", RawJson.of(payload)));
+    }
+
     @Test
     public void deleteListNodeData() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/list-nodes?xpath=sample";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/list-nodes?xpath=sample");
         response = new ResponseEntity<String>(HttpStatus.NO_CONTENT);
         Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(uri),
             ArgumentMatchers.any(HttpMethod.class),
@@ -192,7 +246,7 @@ public class CpsRestClientTest {
 
     @Test
     public void deleteNodeData() throws Exception {
-        final String uri = "http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=sample";
+        final URI uri = URI.create("http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=sample");
         response = new ResponseEntity<String>(HttpStatus.NO_CONTENT);
         Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(uri),
             ArgumentMatchers.any(HttpMethod.class),
@@ -201,4 +255,105 @@ public class CpsRestClientTest {
             .thenReturn(response);
         assertEquals("{\"result\":\"Success\"}", cpsRestClient.deleteData("coverage-area-onap", "sample", "delete"));
     }
+
+    @Test
+    public void testRequestPrototypeFollowsConfiguration() throws Exception {
+        Mockito.when(restTemplate.exchange(ArgumentMatchers.any(URI.class),
+            ArgumentMatchers.any(HttpMethod.class),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.<Class<String>>any()))
+            .thenReturn(response);
+        cpsRestClient.fetchNode("coverage-area-onap", "sample", "get", true);
+
+        final CpsConfiguration cpsConfiguration = appConfiguration.getCpsCoreConfiguration();
+        final String url = cpsConfiguration.getUrl();
+        final String password = cpsConfiguration.getPassword();
+        try {
+            cpsConfiguration.setUrl("http://cps:8080/");
+            cpsConfiguration.setPassword("changed");
+            cpsRestClient.fetchNode("coverage-area-onap", "sample", "get", true);
+        } finally {
+            cpsConfiguration.setUrl(url);
+            cpsConfiguration.setPassword(password);
+        }
+
+        final ArgumentCaptor<URI> uris = ArgumentCaptor.forClass(URI.class);
+        final ArgumentCaptor<HttpEntity<?>> entities = ArgumentCaptor.forClass(HttpEntity.class);
+        Mockito.verify(restTemplate, Mockito.times(2)).exchange(uris.capture(),
+            ArgumentMatchers.eq(HttpMethod.GET), entities.capture(), ArgumentMatchers.<Class<String>>any());
+        assertEquals(
+            URI.create("http://cps:8080/anchors/coverage-area-onap/node?xpath=sample&include-descendants=true"),
+            uris.getAllValues().get(1));
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("cpsuser", "changed");
+        assertEquals(headers.getFirst(HttpHeaders.AUTHORIZATION),
+            entities.getAllValues().get(1).getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        assertNotEquals(entities.getAllValues().get(0).getHeaders().getFirst(HttpHeaders.AUTHORIZATION),
+            entities.getAllValues().get(1).getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    public void testStreamNode() throws Exception {
+        final URI uri =
+            URI.create("http://localhost:8000/anchors/coverage-area-onap/node?xpath=sample&include-descendants=true");
+        final MockClientHttpResponse clientHttpResponse = new MockClientHttpResponse(
+            "sample response".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        Mockito.when(restTemplate.execute(ArgumentMatchers.eq(uri), ArgumentMatchers.eq(HttpMethod.GET),
+            ArgumentMatchers.any(RequestCallback.class), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+            .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                .extractData(clientHttpResponse));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(15, cpsRestClient.streamNode("coverage-area-onap", "sample", "get", true, outputStream));
+        assertEquals("sample response", outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(15, meterRegistry.get("tbdmt.cps.response.streamed").tag("requestType", "get")
+            .summary().totalAmount(), 0);
+
+        final ByteArrayOutputStream errorOutputStream = new ByteArrayOutputStream();
+        Mockito.when(restTemplate.execute(ArgumentMatchers.any(URI.class), ArgumentMatchers.eq(HttpMethod.GET),
+            ArgumentMatchers.any(RequestCallback.class), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+            .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                .extractData(new MockClientHttpResponse("moved".getBytes(StandardCharsets.UTF_8),
+                    HttpStatus.MOVED_PERMANENTLY)));
+        try {
+            cpsRestClient.streamNode("coverage-area-onap", "sample", "get", true, errorOutputStream);
+            fail("Expected CpsClientException");
+        } catch (final CpsClientException e) {
+            assertEquals("Response code from CPS other than 200: 301", e.getLocalizedMessage());
+        }
+        assertEquals(0, errorOutputStream.size());
+    }
+
+    @Test
+    public void testSpoolNode() throws Exception {
+        final URI uri =
+            URI.create("http://localhost:8000/anchors/coverage-area-onap/node?xpath=sample&include-descendants=true");
+        Mockito.when(restTemplate.execute(ArgumentMatchers.eq(uri), ArgumentMatchers.eq(HttpMethod.GET),
+            ArgumentMatchers.any(RequestCallback.class), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+            .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                .extractData(new MockClientHttpResponse("sample response".getBytes(StandardCharsets.UTF_8),
+                    HttpStatus.OK)));
+        try (SpooledResponse spooledResponse = cpsRestClient.spoolNode("coverage-area-onap", "sample", "get", true,
+            1024)) {
+            assertFalse(spooledResponse.isSpilled());
+            assertEquals("sample response", spooledResponse.asString());
+        }
+        try (SpooledResponse spooledResponse = cpsRestClient.spoolNode("coverage-area-onap", "sample", "get", true,
+            4)) {
+            assertTrue(spooledResponse.isSpilled());
+            assertEquals("sample response", spooledResponse.asString());
+        }
+        assertEquals(15, meterRegistry.get("tbdmt.cps.response.spooled").tag("storage", "disk")
+            .summary().totalAmount(), 0);
+
+        final long maxResponseBytes = appConfiguration.getResponseSpill().getMaxResponseBytes();
+        appConfiguration.getResponseSpill().setMaxResponseBytes(10);
+        try {
+            cpsRestClient.spoolNode("coverage-area-onap", "sample", "get", true, 4);
+            fail("Expected ResponseTooLargeException");
+        } catch (final ResponseTooLargeException e) {
+            assertEquals("Response from CPS larger than 10 bytes", e.getLocalizedMessage());
+        } finally {
+            appConfiguration.getResponseSpill().setMaxResponseBytes(maxResponseBytes);
+        }
+    }
 }
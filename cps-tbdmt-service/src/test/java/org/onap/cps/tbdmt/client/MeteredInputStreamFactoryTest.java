@@ -0,0 +1,70 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.junit.Test;
+
+public class MeteredInputStreamFactoryTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void testDecodesAndRecords() throws Exception {
+        final byte[] decoded = "{\"cell\": {\"id\": 1, \"attributes\": {}}}".repeat(200)
+            .getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(encoded)) {
+            gzipOutputStream.write(decoded);
+        }
+        final MeteredInputStreamFactory factory = new MeteredInputStreamFactory("gzip",
+            GZIPInputStreamFactory.getInstance(), meterRegistry);
+        final InputStream inputStream = factory.create(new ByteArrayInputStream(encoded.toByteArray()));
+        assertArrayEquals(decoded, inputStream.readAllBytes());
+        inputStream.close();
+        inputStream.close();
+
+        assertEquals(encoded.size(), meterRegistry.get("tbdmt.cps.response.encoded.size").tag("encoding", "gzip")
+            .summary().totalAmount(), 0);
+        assertEquals((double) decoded.length / encoded.size(),
+            meterRegistry.get("tbdmt.cps.response.compression.ratio").summary().totalAmount(), 0.001);
+        assertEquals(1, meterRegistry.get("tbdmt.cps.response.decoding").timer().count());
+        assertTrue(meterRegistry.get("tbdmt.cps.response.compression.ratio").summary().totalAmount() > 10);
+    }
+
+    @Test
+    public void testAcceptedEncodings() {
+        assertEquals(List.of("gzip", "x-gzip", "deflate"),
+            List.copyOf(CpsHttpClientConfiguration.contentDecoders(meterRegistry).keySet()));
+    }
+}
@@ -0,0 +1,125 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SpooledResponseTest {
+
+    private static final String BODY = "{\"branch\": [{\"name\": \"Right\"}, {\"name\": \"Left\"}]}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testHeldInMemoryBelowThreshold() throws Exception {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (SpooledResponse response = spool(-1, 1024, 0, directory)) {
+            assertFalse(response.isSpilled());
+            assertEquals(BODY.length(), response.getSize());
+            assertEquals(BODY, response.asString());
+            assertEquals(BODY, read(response));
+        }
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testSpilledAboveThreshold() throws Exception {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final SpooledResponse response = spool(-1, 10, 0, directory);
+        assertTrue(response.isSpilled());
+        assertEquals(BODY.length(), response.getSize());
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+        assertEquals(BODY, read(response));
+        assertEquals(BODY, response.asString());
+        response.close();
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testSpilledWhenAnnouncedLengthAboveThreshold() throws Exception {
+        try (SpooledResponse response = spool(BODY.length(), 10, 0, temporaryFolder.getRoot().toPath())) {
+            assertTrue(response.isSpilled());
+            assertEquals(BODY, read(response));
+        }
+    }
+
+    @Test
+    public void testRejectedAboveMaxSize() throws Exception {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        assertNull(spool(-1, 10, 20, directory));
+        assertNull(spool(BODY.length(), 10, 20, directory));
+        assertNull(spool(-1, 1024, 20, directory));
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testMappedWindows() throws IOException {
+        final File file = temporaryFolder.newFile();
+        final byte[] content = "0123456789".repeat(10).getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+        try (InputStream inputStream = new SpooledResponse.MappedInputStream(
+            FileChannel.open(file.toPath(), StandardOpenOption.READ), 7)) {
+            assertEquals('0', inputStream.read());
+            final byte[] rest = inputStream.readAllBytes();
+            assertEquals(content.length - 1, rest.length);
+            assertArrayEquals(Arrays.copyOfRange(content, 1, content.length), rest);
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    private static SpooledResponse spool(final long contentLength, final long spillThreshold, final long maxSize,
+                                         final Path directory) throws IOException {
+        return SpooledResponse.spool(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)),
+            contentLength, spillThreshold, maxSize, directory);
+    }
+
+    private static String read(final SpooledResponse response) throws IOException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        try (Reader reader = response.openReader()) {
+            final char[] buffer = new char[16];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                stringBuilder.append(buffer, 0, read);
+            }
+        }
+        return stringBuilder.toString();
+    }
+}
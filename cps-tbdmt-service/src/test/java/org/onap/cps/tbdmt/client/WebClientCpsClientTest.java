@@ -0,0 +1,159 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+@TestPropertySource("classpath:application-test.properties")
+public class WebClientCpsClientTest {
+
+    private static final List<ClientRequest> REQUESTS = new ArrayList<>();
+
+    private static ClientResponse response;
+
+    @TestConfiguration
+    static class WebClientCpsClientTestContextConfiguration {
+
+        @Bean
+        public WebClientCpsClient webClientCpsClient() {
+            return new WebClientCpsClient();
+        }
+
+        @Bean
+        public WebClient cpsWebClient() {
+            return WebClient.builder().exchangeFunction(request -> {
+                REQUESTS.add(request);
+                return Mono.just(response);
+            }).build();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private WebClientCpsClient webClientCpsClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Before
+    public void setUp() {
+        REQUESTS.clear();
+        meterRegistry.clear();
+        response = ClientResponse.create(HttpStatus.OK).body("sample response").build();
+    }
+
+    @Test
+    public void testFetchNode() {
+        assertEquals("sample response",
+            webClientCpsClient.fetchNode("coverage-area-onap", "sample", "get", true).block());
+        final ClientRequest request = REQUESTS.get(0);
+        assertEquals(HttpMethod.GET, request.method());
+        assertEquals("http://localhost:8000/anchors/coverage-area-onap/node?xpath=sample&include-descendants=true",
+            request.url().toString());
+        assertTrue(request.headers().getFirst(HttpHeaders.AUTHORIZATION).startsWith("Basic "));
+        assertEquals(1, meterRegistry.get("tbdmt.cps.request").tags("requestType", "get", "outcome", "success")
+            .timer().count());
+        assertEquals(15, meterRegistry.get("tbdmt.cps.response.size").tag("requestType", "get")
+            .summary().totalAmount(), 0);
+    }
+
+    @Test
+    public void testQueryCpsPath() {
+        webClientCpsClient.fetchNode("coverage-area-onap", "//sample[@id='1']", "query-cps-path", false).block();
+        assertEquals("http://localhost:8000/anchors/coverage-area-onap/nodes/query"
+            + "?cps-path=//sample%5B@id%3D'1'%5D&include-descendants=false", REQUESTS.get(0).url().toString());
+    }
+
+    @Test
+    public void testFetchNodeUnexpectedStatus() {
+        response = ClientResponse.create(HttpStatus.ACCEPTED).build();
+        final Object error = webClientCpsClient.fetchNode("coverage-area-onap", "sample", "get", true)
+            .map(Object.class::cast).onErrorResume(Mono::just).block();
+        assertTrue(error instanceof CpsClientException);
+        assertEquals("Response code from CPS other than 200: 202", ((Throwable) error).getMessage());
+        assertEquals(1, meterRegistry.get("tbdmt.cps.request").tags("requestType", "get", "outcome", "error")
+            .timer().count());
+    }
+
+    @Test
+    public void testFetchNodeErrorStatus() {
+        response = ClientResponse.create(HttpStatus.NOT_FOUND).body("not found").build();
+        final Object error = webClientCpsClient.fetchNode("coverage-area-onap", "sample", "get", true)
+            .map(Object.class::cast).onErrorResume(Mono::just).block();
+        assertTrue(error instanceof CpsClientException);
+    }
+
+    @Test
+    public void testAddData() {
+        final RawJson payload = RawJson.of("{\"key\":\"value\"}");
+        response = ClientResponse.create(HttpStatus.CREATED).body("created").build();
+        assertEquals("created",
+            webClientCpsClient.addData("coverage-area-onap", "sample", "post", payload).block());
+        assertEquals(HttpMethod.POST, REQUESTS.get(0).method());
+        assertEquals("http://localhost:8000/anchors/coverage-area-onap/nodes", REQUESTS.get(0).url().toString());
+
+        webClientCpsClient.addData("coverage-area-onap", "sample", "patch", payload).block();
+        assertEquals(HttpMethod.PATCH, REQUESTS.get(1).method());
+        assertEquals("http://localhost:8000/anchors/coverage-area-onap/nodes?xpath=sample",
+            REQUESTS.get(1).url().toString());
+    }
+
+    @Test
+    public void testDeleteData() {
+        response = ClientResponse.create(HttpStatus.NO_CONTENT).build();
+        assertEquals("{\"result\":\"Success\"}",
+            webClientCpsClient.deleteData("coverage-area-onap", "sample", "delete-list-node").block());
+        assertEquals(HttpMethod.DELETE, REQUESTS.get(0).method());
+        assertEquals("http://localhost:8000/anchors/coverage-area-onap/list-nodes?xpath=sample",
+            REQUESTS.get(0).url().toString());
+    }
+}
@@ -0,0 +1,115 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.onap.cps.tbdmt.model.ErrorResponse;
+
+public class JsonCodecTest {
+
+    private static final List<JsonCodec> JSON_CODECS = List.of(new GsonJsonCodec(), new JacksonJsonCodec());
+
+    @Test
+    public void testExtractFollowsStagesThroughArrays() throws Exception {
+        final String document = "[{\"branch\":[{\"name\":\"Right\",\"nest\":{\"name\":\"Big\"}},"
+            + "[{\"name\":\"Left\",\"nest\":{\"name\":\"Small\"}}]]}]";
+        for (final JsonCodec jsonCodec : JSON_CODECS) {
+            final Extraction extraction = jsonCodec.extract(new StringReader(document),
+                List.of("branch", "nest", "name"));
+            assertTrue(extraction.isRootArray());
+            assertEquals("[\"Big\",\"Small\"]", jsonCodec.toJson(extraction.getMatches()));
+        }
+    }
+
+    @Test
+    public void testExtractMaterializesMatchedSubtree() throws Exception {
+        final String document = "{\"attributes\":{\"cellLocalId\":15299,\"skip\":{\"deep\":[1,2,3]}},"
+            + "\"cellLocalId\":1}";
+        for (final JsonCodec jsonCodec : JSON_CODECS) {
+            final Extraction extraction = jsonCodec.extract(new StringReader(document), List.of("attributes"));
+            assertFalse(extraction.isRootArray());
+            assertEquals("[{\"cellLocalId\":15299,\"skip\":{\"deep\":[1,2,3]}}]",
+                jsonCodec.toJson(extraction.getMatches()));
+        }
+    }
+
+    @Test
+    public void testRepeatedMemberKeepsLastValue() throws Exception {
+        final String document = "{\"nest\":{\"name\":\"Big\"},\"nest\":{\"name\":\"Small\"}}";
+        for (final JsonCodec jsonCodec : JSON_CODECS) {
+            final Extraction extraction = jsonCodec.extract(new StringReader(document), List.of("nest", "name"));
+            assertEquals("[\"Small\"]", jsonCodec.toJson(extraction.getMatches()));
+        }
+    }
+
+    @Test
+    public void testExtractRejectsTrailingContent() {
+        for (final JsonCodec jsonCodec : JSON_CODECS) {
+            try {
+                jsonCodec.extract(new StringReader("{\"name\":\"Big\"} {}"), List.of("name"));
+                fail("Trailing content accepted by " + jsonCodec.getClass().getSimpleName());
+            } catch (final IOException e) {
+                assertEquals("JSON document was not fully consumed.", e.getMessage().split("\n")[0]);
+            }
+        }
+    }
+
+    @Test
+    public void testParseKeepsNumbersAsWritten() throws Exception {
+        final String document = "{\"id\":15299,\"power\":1.0E10,\"ratio\":-0.50,\"flags\":[true,false,null]}";
+        for (final JsonCodec jsonCodec : JSON_CODECS) {
+            final Map<?, ?> value = (Map<?, ?>) jsonCodec.parse(document);
+            assertEquals(new JsonNumber("15299"), value.get("id"));
+            assertEquals("1.0E10", value.get("power").toString());
+            assertEquals(document, jsonCodec.toJson(value));
+        }
+    }
+
+    @Test
+    public void testSameOutputForAllCodecs() throws Exception {
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("name", "OU=Sales & <Marketing> 'EU'\u0001\n\u2028");
+        payload.put("removed", null);
+        payload.put("values", List.of(1, "a"));
+        final ErrorResponse errorResponse = new ErrorResponse("Error while executing template", List.of("x=1"));
+        for (final JsonCodec jsonCodec : JSON_CODECS) {
+            assertEquals("{\"name\":\"OU\\u003dSales \\u0026 \\u003cMarketing\\u003e \\u0027EU\\u0027"
+                + "\\u0001\\n\\u2028\",\"values\":[1,\"a\"]}", jsonCodec.toJson(payload));
+            assertEquals("{\"message\":\"Error while executing template\",\"details\":[\"x\\u003d1\"]}",
+                jsonCodec.toJson(errorResponse));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownCodec() {
+        JsonCodecConfiguration.create("xml");
+    }
+}
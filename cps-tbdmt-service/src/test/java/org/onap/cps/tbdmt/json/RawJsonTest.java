@@ -0,0 +1,68 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.onap.cps.tbdmt.model.ExecutionRequest;
+
+public class RawJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testPayloadKeptAsReceived() throws Exception {
+        final String payload = "{\"cell\":[{\"id\":15299,\"ratio\":1.50,\"power\":1.0E10,"
+            + "\"big\":12345678901234567890123,\"name\":\"OU=Sales\",\"flags\":[true,null]}],\"empty\":{}}";
+        final ExecutionRequest executionRequest = objectMapper.readValue(
+            "{\"inputParameters\": {\"coverageArea\": \"Zone 1\"}, \"payload\": " + payload
+                + ", \"inputParameterSets\": null}", ExecutionRequest.class);
+        assertEquals(payload, executionRequest.getPayload().toString());
+        assertEquals("Zone 1", executionRequest.getInputParameters().get("coverageArea"));
+        assertEquals(RawJson.of(payload), objectMapper.readValue(objectMapper.writeValueAsString(executionRequest),
+            ExecutionRequest.class).getPayload());
+    }
+
+    @Test
+    public void testWhitespaceRemoved() throws Exception {
+        final ExecutionRequest executionRequest = objectMapper.readValue(
+            "{\"payload\": {\n  \"cell\": [ 1 , 2 ]\n}}", ExecutionRequest.class);
+        assertEquals("{\"cell\":[1,2]}", executionRequest.getPayload().toString());
+    }
+
+    @Test
+    public void testMissingPayloadSentAsNull() throws Exception {
+        final ExecutionRequest executionRequest = objectMapper.readValue("{\"payload\": null}",
+            ExecutionRequest.class);
+        assertNull(executionRequest.getPayload());
+        assertEquals("null", new String(RawJson.toBytes(executionRequest.getPayload()), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = MismatchedInputException.class)
+    public void testPayloadMustBeObject() throws Exception {
+        objectMapper.readValue("{\"payload\": [1, 2]}", ExecutionRequest.class);
+    }
+}
@@ -0,0 +1,159 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.onap.cps.tbdmt.exception.ExecuteException;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+@TestPropertySource(properties = "app.multipleQuery.maxConcurrency=4")
+public class BoundedParallelExecutorTest {
+
+    @TestConfiguration
+    static class BoundedParallelExecutorTestContextConfiguration {
+
+        @Bean
+        public BoundedParallelExecutor boundedParallelExecutor() {
+            return new BoundedParallelExecutor();
+        }
+    }
+
+    @Autowired
+    private BoundedParallelExecutor boundedParallelExecutor;
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testResultOrderIsPreserved() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<String> results = boundedParallelExecutor.invokeAll(List.of(50, 10, 30, 0, 20, 40), 3,
+            delay -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(delay);
+                inFlight.decrementAndGet();
+                return "result-" + delay;
+            }, null);
+        assertEquals(List.of("result-50", "result-10", "result-30", "result-0", "result-20", "result-40"), results);
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void testPartialFailure() {
+        final List<String> results = boundedParallelExecutor.invokeAll(List.of("a", "b", "c"), 4,
+            input -> {
+                if ("b".equals(input)) {
+                    throw new ExecuteException("Response code from CPS other than 200: 404");
+                }
+                return input;
+            }, error -> "error: " + error.getLocalizedMessage());
+        assertEquals(List.of("a", "error: Response code from CPS other than 200: 404", "c"), results);
+    }
+
+    @Test
+    public void testFailFast() {
+        exception.expect(ExecuteException.class);
+        exception.expectMessage("Response code from CPS other than 200: 404");
+        boundedParallelExecutor.invokeAll(List.of("a", "b", "c"), 4,
+            input -> {
+                if ("b".equals(input)) {
+                    throw new ExecuteException("Response code from CPS other than 200: 404");
+                }
+                return input;
+            }, null);
+    }
+
+    @Test
+    public void testNestedCallsCompleteWhenThePoolIsHeldByTheirParents() {
+        final List<List<String>> results = boundedParallelExecutor.invokeAll(List.of("a", "b", "c", "d", "e"), 4,
+            outer -> {
+                sleep(20);
+                return boundedParallelExecutor.invokeAll(List.of(1, 2), 4, inner -> outer + inner, null);
+            }, null);
+        assertEquals(List.of(List.of("a1", "a2"), List.of("b1", "b2"), List.of("c1", "c2"), List.of("d1", "d2"),
+            List.of("e1", "e2")), results);
+    }
+
+    @Test
+    public void testNestedCallsRunInParallel() {
+        final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        final Map<String, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+        final List<List<String>> results = boundedParallelExecutor.invokeAll(List.of("a", "b"), 2,
+            outer -> boundedParallelExecutor.invokeAll(List.of(1, 2, 3, 4), 2, inner -> {
+                final int running = inFlight.computeIfAbsent(outer, key -> new AtomicInteger()).incrementAndGet();
+                maxInFlight.computeIfAbsent(outer, key -> new AtomicInteger()).accumulateAndGet(running, Math::max);
+                sleep(50);
+                inFlight.get(outer).decrementAndGet();
+                return outer + inner;
+            }, null), null);
+        assertEquals(List.of(List.of("a1", "a2", "a3", "a4"), List.of("b1", "b2", "b3", "b4")), results);
+        assertEquals(2, maxInFlight.get("a").get());
+        assertEquals(2, maxInFlight.get("b").get());
+    }
+
+    @Test
+    public void testInvokeEachInCompletionOrder() {
+        final List<String> results = new ArrayList<>();
+        boundedParallelExecutor.invokeEach(List.of(150, 0, 75), 3, delay -> {
+            sleep(delay);
+            return "result-" + delay;
+        }, null, false, results::add);
+        assertEquals(List.of("result-0", "result-75", "result-150"), results);
+    }
+
+    @Test
+    public void testInvokeEachInInputOrder() {
+        final List<String> results = new ArrayList<>();
+        boundedParallelExecutor.invokeEach(List.of(50, 10, 30, 0, 20, 40), 3, delay -> {
+            sleep(delay);
+            return "result-" + delay;
+        }, null, true, results::add);
+        assertEquals(List.of("result-50", "result-10", "result-30", "result-0", "result-20", "result-40"), results);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
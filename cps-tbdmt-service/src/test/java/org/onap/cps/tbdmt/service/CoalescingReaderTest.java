@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+@TestPropertySource("classpath:application-test.properties")
+public class CoalescingReaderTest {
+
+    private static final int CALLERS = 5;
+
+    @TestConfiguration
+    static class CoalescingReaderTestContextConfiguration {
+
+        @Bean
+        public CoalescingReader coalescingReader() {
+            return new CoalescingReader();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private CoalescingReader coalescingReader;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+
+    private final CpsReadKey cpsReadKey = new CpsReadKey("cpsCore", "ran-network", "/cells", "get", true);
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testIdenticalReadsShareOneRequest() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Future<String>> results = readConcurrently(() -> {
+            requests.incrementAndGet();
+            await(release);
+            return "{\"cell\": 1}";
+        });
+        release.countDown();
+        for (final Future<String> result : results) {
+            assertEquals("{\"cell\": 1}", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testErrorIsSharedAndNotRetained() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Future<String>> results = readConcurrently(() -> {
+            await(release);
+            throw new CpsClientException("Response code from CPS other than 200: 500");
+        });
+        release.countDown();
+        for (final Future<String> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("Expected the shared read to fail");
+            } catch (final ExecutionException e) {
+                assertEquals(CpsClientException.class, e.getCause().getClass());
+                assertEquals("Response code from CPS other than 200: 500", e.getCause().getLocalizedMessage());
+            }
+        }
+        assertEquals("{}", coalescingReader.read(cpsReadKey, () -> "{}"));
+    }
+
+    private List<Future<String>> readConcurrently(final CoalescingReader.CpsRead cpsRead) throws Exception {
+        final double coalescedBefore = meterRegistry.get("tbdmt.cps.reads.coalesced").counter().count();
+        final List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executorService.submit(() -> coalescingReader.read(cpsReadKey, cpsRead)));
+        }
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("tbdmt.cps.reads.coalesced").counter().count() - coalescedBefore < CALLERS - 1
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(CALLERS - 1, meterRegistry.get("tbdmt.cps.reads.coalesced").counter().count() - coalescedBefore,
+            0);
+        return results;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.onap.cps.tbdmt.json.GsonJsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.service.CpsPathQueryConsolidator.Consolidation;
+import org.onap.cps.tbdmt.service.CpsPathQueryConsolidator.Query;
+
+public class CpsPathQueryConsolidatorTest {
+
+    private static final JsonCodec JSON_CODEC = new GsonJsonCodec();
+
+    @Test
+    public void testParse() {
+        final Query query = Query.parse("/NearRTRIC[@idNearRTRIC='11']/cell[@cellLocalId=\"1\" and @pci=5]");
+        assertEquals("/NearRTRIC[@idNearRTRIC='11']/cell", query.getPrefix());
+        assertEquals(Map.of("cellLocalId", "1", "pci", "5"), query.getConditions());
+        assertEquals("a]b", Query.parse("/cell[@name='a]b']").getConditions().get("name"));
+    }
+
+    @Test
+    public void testParseUnsupportedPredicates() {
+        assertNull(Query.parse("/NearRTRIC/cell"));
+        assertNull(Query.parse("/cell[@id='1' or @id='2']"));
+        assertNull(Query.parse("/cell[contains(@name, 'a')]"));
+        assertNull(Query.parse("/cell[@id='1' and @id='2']"));
+        assertNull(Query.parse("[@id='1']"));
+    }
+
+    @Test
+    public void testConsolidate() {
+        final List<Consolidation> consolidations = CpsPathQueryConsolidator.consolidate(List.of(
+            "/ran/cell[@id='1']", "/ran/cell[@id='2']", "/ran/area[@id='1']", "//cell", "/ran/cell[@id='1']"), 100);
+        assertEquals(3, consolidations.size());
+        assertEquals("//cell", consolidations.get(0).getCpsPath());
+        assertFalse(consolidations.get(0).isMerged());
+        assertEquals("/ran/cell[@id='1' or @id='2']", consolidations.get(1).getCpsPath());
+        assertEquals(List.of(0, 1, 4), consolidations.get(1).getIndices());
+        assertTrue(consolidations.get(1).isMerged());
+        assertEquals("/ran/area[@id='1']", consolidations.get(2).getCpsPath());
+        assertEquals(List.of(2), consolidations.get(2).getIndices());
+    }
+
+    @Test
+    public void testConsolidateWithinMaxLength() {
+        final int maxCpsPathLength = "/ran/cell[@id='1' or @id='2']".length();
+        final List<Consolidation> consolidations = CpsPathQueryConsolidator.consolidate(List.of(
+            "/ran/cell[@id='1']", "/ran/cell[@id='2']", "/ran/cell[@id='3']"), maxCpsPathLength);
+        assertEquals(2, consolidations.size());
+        assertEquals("/ran/cell[@id='1' or @id='2']", consolidations.get(0).getCpsPath());
+        assertEquals("/ran/cell[@id='3']", consolidations.get(1).getCpsPath());
+        assertFalse(consolidations.get(1).isMerged());
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        final Consolidation consolidation = CpsPathQueryConsolidator.consolidate(List.of(
+            "/ran/cell[@id='1']", "/ran/cell[@id='2']", "/ran/cell[@id='3']"), 100).get(0);
+        final List<?> nodes = (List<?>) JSON_CODEC.parse(
+            "[{\"cell\": {\"id\": \"2\", \"pci\": 7}}, {\"cell\": {\"id\": \"1\", \"pci\": 5}}]");
+        final List<List<Object>> splitNodes = consolidation.split(nodes);
+        assertEquals("[{\"cell\":{\"id\":\"1\",\"pci\":5}}]", JSON_CODEC.toJson(splitNodes.get(0)));
+        assertEquals("[{\"cell\":{\"id\":\"2\",\"pci\":7}}]", JSON_CODEC.toJson(splitNodes.get(1)));
+        assertEquals("[]", JSON_CODEC.toJson(splitNodes.get(2)));
+    }
+
+    @Test
+    public void testSplitComparesNumbersByValue() throws Exception {
+        final Consolidation consolidation = CpsPathQueryConsolidator.consolidate(List.of(
+            "/ran/cell[@id=1.0]", "/ran/cell[@id=02]", "/ran/cell[@id=3]"), 100).get(0);
+        final List<?> nodes = (List<?>) JSON_CODEC.parse(
+            "[{\"cell\": {\"id\": 2, \"pci\": 7}}, {\"cell\": {\"id\": 1, \"pci\": 5}}]");
+        final List<List<Object>> splitNodes = consolidation.split(nodes);
+        assertEquals("[{\"cell\":{\"id\":1,\"pci\":5}}]", JSON_CODEC.toJson(splitNodes.get(0)));
+        assertEquals("[{\"cell\":{\"id\":2,\"pci\":7}}]", JSON_CODEC.toJson(splitNodes.get(1)));
+        assertEquals("[]", JSON_CODEC.toJson(splitNodes.get(2)));
+    }
+
+    @Test
+    public void testSplitUndecidedForNumericValueOfTextLeaf() throws Exception {
+        final Consolidation consolidation = CpsPathQueryConsolidator.consolidate(List.of(
+            "/ran/cell[@id=01]", "/ran/cell[@id=2]"), 100).get(0);
+        assertNull(consolidation.split((List<?>) JSON_CODEC.parse("[{\"cell\": {\"id\": \"1\"}}]")));
+    }
+
+    @Test
+    public void testSplitWithoutPredicateLeaves() throws Exception {
+        final Consolidation consolidation = CpsPathQueryConsolidator.consolidate(List.of(
+            "/ran/cell[@id='1']", "/ran/cell[@id='2']"), 100).get(0);
+        assertNull(consolidation.split((List<?>) JSON_CODEC.parse("[{\"cell\": {\"pci\": 5}}]")));
+    }
+}
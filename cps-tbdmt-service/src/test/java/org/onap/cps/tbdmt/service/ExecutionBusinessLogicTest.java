@@ -21,10 +21,23 @@
 package org.onap.cps.tbdmt.service;
 
 import static org.junit.Assert.assertEquals;
-
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.Before;
@@ -35,14 +48,23 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.onap.cps.tbdmt.client.CpsRestClient;
+import org.onap.cps.tbdmt.client.SpooledResponse;
 import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.exception.BatchLimitExceededException;
 import org.onap.cps.tbdmt.exception.CpsClientException;
 import org.onap.cps.tbdmt.exception.ExecuteException;
+import org.onap.cps.tbdmt.exception.ResponseTooLargeException;
 import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.json.GsonJsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.RawJson;
 import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.BatchExecutionItem;
+import org.onap.cps.tbdmt.model.BatchExecutionResult;
 import org.onap.cps.tbdmt.model.ExecutionRequest;
 import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.model.TemplateKey;
+import org.onap.cps.tbdmt.model.TransformPlan;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -64,11 +86,68 @@ public class ExecutionBusinessLogicTest {
         public ExecutionBusinessLogic executionBusinessLogic() {
             return new ExecutionBusinessLogic();
         }
+
+        @Bean
+        public TemplateCache templateCache() {
+            return new TemplateCache();
+        }
+
+        @Bean
+        public BoundedParallelExecutor boundedParallelExecutor() {
+            return new BoundedParallelExecutor();
+        }
+
+        @Bean
+        public XpathTemplateRegistry xpathTemplateRegistry() {
+            return new XpathTemplateRegistry();
+        }
+
+        @Bean
+        public ReadResultCache readResultCache() {
+            return new ReadResultCache();
+        }
+
+        @Bean
+        public CoalescingReader coalescingReader() {
+            return new CoalescingReader();
+        }
+
+        @Bean
+        public ExecutionMetrics executionMetrics() {
+            return new ExecutionMetrics();
+        }
+
+        @Bean
+        public TransformPushDownPlanner transformPushDownPlanner() {
+            return new TransformPushDownPlanner();
+        }
+
+        @Bean
+        public JsonCodec jsonCodec() {
+            return new GsonJsonCodec();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
     }
 
     @Autowired
     private ExecutionBusinessLogic executionBusinessLogic;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransformPushDownPlanner transformPushDownPlanner;
+
+    @Autowired
+    private AppConfiguration appConfiguration;
+
+    @Autowired
+    private TemplateCache templateCache;
+
     @MockBean
     private TemplateRepository templateRepository;
 
@@ -90,10 +169,11 @@ public class ExecutionBusinessLogicTest {
      */
     @Before
     public void setup() {
+        // the templates are stubbed per test, so none is served from an earlier one
+        templateCache.invalidateAll();
         final Map<String, String> input = new HashMap<>();
-        final Map<String, Object> payload = new HashMap<>();
         input.put("coverageArea", "Zone 1");
-        request = new ExecutionRequest(input, payload);
+        request = new ExecutionRequest(input, RawJson.of("{\"coverage-area\":{\"coverageArea\":\"Zone 1\"}}"));
         final String xpathTemplate = "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
             + "/coverage-area[@coverageArea='{{coverageArea}}']";
         template = new Template("getNbr", "ran-network", xpathTemplate, "get", true, "", "");
@@ -112,6 +192,7 @@ public class ExecutionBusinessLogicTest {
         assertEquals(resultString,
             executionBusinessLogic.executeTemplate("ran-network", "getNbr", request));
 
+        templateCache.invalidateAll();
         Mockito.when(templateRepository.findById(ArgumentMatchers.any()))
             .thenReturn(Optional.empty());
         exception.expect(TemplateNotFoundException.class);
@@ -120,6 +201,46 @@ public class ExecutionBusinessLogicTest {
 
     }
 
+    @Test
+    public void testExecutionStagesAreTimed() throws Exception {
+        Mockito.when(cpsRestClient
+            .fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenReturn("[{\"key\": \"value\"}]");
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any()))
+            .thenReturn(Optional.of(template));
+        executionBusinessLogic.executeTemplate("ran-network", "getNbr", request);
+
+        for (final String stage : List.of(ExecutionMetrics.LOOKUP, ExecutionMetrics.RENDER, ExecutionMetrics.CPS,
+            ExecutionMetrics.SERIALIZE)) {
+            assertTrue(meterRegistry.get(ExecutionMetrics.STAGE_TIMER).tags("stage", stage, "templateId", "getNbr",
+                "model", "ran-network", "requestType", "get", "backend", "cpsCore", "outcome", "success")
+                .timer().count() > 0);
+        }
+        assertTrue(meterRegistry.get(ExecutionMetrics.RESULT_SIZE).tag("templateId", "getNbr")
+            .summary().count() > 0);
+    }
+
+    @Test
+    public void testTemplateIsLookedUpOnce() throws Exception {
+        Mockito.when(cpsRestClient
+            .fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenReturn("[{\"key\": \"value\"}]");
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any()))
+            .thenReturn(Optional.of(template));
+        final double lookups = lookupCount();
+        final Template found = executionBusinessLogic.getTemplate("getNbr");
+        assertFalse(executionBusinessLogic.passThrough("ran-network", found, request).isPresent());
+        assertEquals("[{\"key\": \"value\"}]", executionBusinessLogic.executeTemplate("ran-network", found, request));
+        assertEquals(lookups + 1, lookupCount(), 0);
+    }
+
+    private double lookupCount() {
+        return meterRegistry.find(ExecutionMetrics.STAGE_TIMER).tags("stage", ExecutionMetrics.LOOKUP,
+            "templateId", "getNbr").timers().stream().mapToDouble(Timer::count).sum();
+    }
+
     @Test
     public void testExecuteTemplateException() throws Exception {
         final String exceptionMessage = "Response from CPS other than 200: 404";
@@ -166,6 +287,45 @@ public class ExecutionBusinessLogicTest {
 
     }
 
+    @Test
+    public void testPassThrough() throws Exception {
+        final String xpath = "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+            + "/coverage-area[@coverageArea='Zone 1']";
+        assertFalse(executionBusinessLogic.passThrough("ran-network", template, request).isPresent());
+
+        appConfiguration.getPassThrough().setEnabled(true);
+        try {
+            Mockito.when(cpsRestClient.streamNode(ArgumentMatchers.eq("ran-network"), ArgumentMatchers.eq(xpath),
+                ArgumentMatchers.eq("get"), ArgumentMatchers.eq(true), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    invocation.<OutputStream>getArgument(4).write("[{\"key\": \"value\"}]".getBytes());
+                    return 18L;
+                });
+            final Optional<StreamedResult> streamedResult =
+                executionBusinessLogic.passThrough("ran-network", template, request);
+            assertTrue(streamedResult.isPresent());
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            streamedResult.get().writeTo(outputStream);
+            assertEquals("[{\"key\": \"value\"}]", outputStream.toString());
+
+            Mockito.when(cpsRestClient.streamNode(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenThrow(new CpsClientException("Response code from CPS other than 200: 404"));
+            try {
+                executionBusinessLogic.passThrough("ran-network", template, request).get()
+                    .writeTo(new ByteArrayOutputStream());
+                fail("Expected ExecuteException");
+            } catch (final ExecuteException e) {
+                assertEquals("Response code from CPS other than 200: 404", e.getLocalizedMessage());
+            }
+
+            template.setTransformParam("coverageArea");
+            assertFalse(executionBusinessLogic.passThrough("ran-network", template, request).isPresent());
+        } finally {
+            appConfiguration.getPassThrough().setEnabled(false);
+        }
+    }
+
     @Test
     public void testOutputTransform() {
         final Map<String, String> input = new HashMap<>();
@@ -221,6 +381,209 @@ public class ExecutionBusinessLogicTest {
         }
     }
 
+    @Test
+    public void testStreamMultipleQuery() throws Exception {
+        final Template template1 =
+                new Template("get-tree", "ran-network", "/test-tree", "get", true, null, "branch, name");
+        final Template template2 = new Template("get-branch", "ran-network", "/test-tree/branch[@name='{{name}}']/nest",
+                "get", true, "get-tree", "name");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/test-tree", "get", true))
+                .thenReturn(readFromFile("sample_multiple_query_data_1.json"));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/test-tree/branch[@name='Right']/nest", "get", true))
+                .thenReturn(readFromFile("sample_multiple_query_data_2.json"));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/test-tree/branch[@name='Left']/nest", "get", true))
+                .thenReturn(readFromFile("sample_multiple_query_data_3.json"));
+        Mockito.when(templateRepository.findById(new TemplateKey("get-tree"))).thenReturn(Optional.of(template1));
+        Mockito.when(templateRepository.findById(new TemplateKey("get-branch"))).thenReturn(Optional.of(template2));
+
+        final StreamedResult streamedResult =
+                executionBusinessLogic.streamTemplate("ran-network", "get-branch", request, true);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        streamedResult.writeTo(outputStream);
+        assertEquals("\"Big\"\n\"Small\"\n", outputStream.toString());
+    }
+
+    @Test
+    public void testMultipleQueryWithSharedDependency() throws Exception {
+        final Template mccTemplate = new Template("get-mcc", "ran-network", "/plmn", "get", true, null, "mcc");
+        final Template mncTemplate = new Template("get-mnc", "ran-network", "/plmn[@mcc='{{mcc}}']/mnc", "get", true,
+                "get-mcc", "mnc");
+        final Template areaTemplate = new Template("get-area", "ran-network", "/plmn[@mcc='{{mcc}}']/area", "get",
+                true, "get-mcc", "area");
+        final Template cellTemplate = new Template("get-cell", "ran-network",
+                "/plmn[@mnc='{{mnc}}']/area[@name='{{area}}']", "get", true, "get-mnc, get-area", null);
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn", "get", true)).thenReturn("{\"mcc\": [\"310\"]}");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn[@mcc='310']/mnc", "get", true))
+                .thenReturn("{\"mnc\": [\"410\", \"420\"]}");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn[@mcc='310']/area", "get", true))
+                .thenReturn("{\"area\": [\"Zone 1\"]}");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn[@mnc='410']/area[@name='Zone 1']", "get", true))
+                .thenReturn("{\"cell\":\"c1\"}");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn[@mnc='420']/area[@name='Zone 1']", "get", true))
+                .thenReturn("{\"cell\":\"c2\"}");
+        for (final Template dependency : List.of(mccTemplate, mncTemplate, areaTemplate, cellTemplate)) {
+            Mockito.when(templateRepository.findById(new TemplateKey(dependency.getTemplateId())))
+                    .thenReturn(Optional.of(dependency));
+        }
+
+        assertEquals("[{\"cell\":\"c1\"}, {\"cell\":\"c2\"}]",
+                executionBusinessLogic.executeTemplate("ran-network", "get-cell", request));
+        Mockito.verify(cpsRestClient, Mockito.times(1)).fetchNode("ran-network", "/plmn", "get", true);
+        assertEquals(1, meterRegistry.get(ExecutionMetrics.CRITICAL_PATH_TIMER).tag("templateId", "get-cell")
+                .timer().count());
+        assertEquals(3.0, meterRegistry.get(ExecutionMetrics.CRITICAL_PATH_TIMER + ".length")
+                .tag("templateId", "get-cell").summary().max(), 0);
+    }
+
+    @Test
+    public void testMultipleQueryCombinationsAreLimited() throws Exception {
+        final Template mncTemplate = new Template("get-mnc", "ran-network", "/plmn/mnc", "get", true, null, "mnc");
+        final Template areaTemplate = new Template("get-area", "ran-network", "/plmn/area", "get", true, null, "area");
+        final Template cellTemplate = new Template("get-cell", "ran-network",
+                "/plmn[@mnc='{{mnc}}']/area[@name='{{area}}']", "get", true, "get-mnc, get-area", null);
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn/mnc", "get", true))
+                .thenReturn("{\"mnc\": [\"410\", \"420\"]}");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/plmn/area", "get", true))
+                .thenReturn("{\"area\": [\"Zone 1\", \"Zone 2\"]}");
+        for (final Template dependency : List.of(mncTemplate, areaTemplate, cellTemplate)) {
+            Mockito.when(templateRepository.findById(new TemplateKey(dependency.getTemplateId())))
+                    .thenReturn(Optional.of(dependency));
+        }
+        appConfiguration.getMultipleQuery().setMaxCombinations(3);
+        try {
+            executionBusinessLogic.executeTemplate("ran-network", "get-cell", request);
+            fail("Expected BatchLimitExceededException");
+        } catch (final BatchLimitExceededException e) {
+            assertEquals("Multiple query must not have more than 3 combinations of values", e.getMessage());
+        } finally {
+            appConfiguration.getMultipleQuery().setMaxCombinations(10000);
+        }
+        Mockito.verify(cpsRestClient, Mockito.never()).fetchNode(ArgumentMatchers.eq("ran-network"),
+                ArgumentMatchers.startsWith("/plmn["), ArgumentMatchers.anyString(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testExecuteInputParameterSetsWithMergedQuery() throws Exception {
+        final Template cellTemplate = new Template("get-cell", "ran-network", "/ran/cell[@id='{{id}}']",
+                "query-cps-path", true, null, null);
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(cellTemplate));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/ran/cell[@id='1' or @id='2']", "query-cps-path", true))
+                .thenReturn("[{\"cell\": {\"id\": \"2\"}}, {\"cell\": {\"id\": \"1\"}}]");
+        final ExecutionRequest setsRequest = new ExecutionRequest(null, null,
+                List.of(Map.of("id", "1"), Map.of("id", "2"), Map.of("id", "1")));
+        assertEquals("[[{\"cell\":{\"id\":\"1\"}}], [{\"cell\":{\"id\":\"2\"}}], [{\"cell\":{\"id\":\"1\"}}]]",
+                executionBusinessLogic.executeTemplate("ran-network", "get-cell", setsRequest));
+        Mockito.verify(cpsRestClient, Mockito.times(1)).fetchNode(ArgumentMatchers.anyString(),
+                ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testExecuteInputParameterSetsOneByOne() throws Exception {
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(template));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 1']", "get", true)).thenReturn("{\"zone\": 1}");
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 2']", "get", true)).thenReturn("{\"zone\": 2}");
+        final ExecutionRequest setsRequest = new ExecutionRequest(null, null,
+                List.of(Map.of("coverageArea", "Zone 1"), Map.of("coverageArea", "Zone 2")));
+        assertEquals("[{\"zone\": 1}, {\"zone\": 2}]",
+                executionBusinessLogic.executeTemplate("ran-network", "getNbr", setsRequest));
+    }
+
+    @Test
+    public void testTransformPushDown() throws Exception {
+        final Template treeTemplate =
+                new Template("get-tree", "ran-network", "/test-tree", "get", true, null, "branch, name");
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(treeTemplate));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/test-tree", "get", true))
+                .thenReturn(readFromFile("sample_multiple_query_data_1.json"));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/test-tree/branch", "get", false))
+                .thenReturn("[{\"name\": \"Right\"}, {\"name\": \"Left\"}]");
+        appConfiguration.getTransformPushDown().setEnabled(true);
+        appConfiguration.getTransformPushDown().setShadowExecutions(2);
+        try {
+            for (int execution = 0; execution < 3; execution++) {
+                assertEquals("[\"Right\",\"Left\"]",
+                        executionBusinessLogic.executeTemplate("ran-network", "get-tree", request));
+            }
+        } finally {
+            appConfiguration.getTransformPushDown().setEnabled(false);
+        }
+        Mockito.verify(cpsRestClient, Mockito.times(2)).fetchNode("ran-network", "/test-tree", "get", true);
+        Mockito.verify(cpsRestClient, Mockito.times(3)).fetchNode("ran-network", "/test-tree/branch", "get", false);
+        final TransformPlan transformPlan = transformPushDownPlanner.report(treeTemplate);
+        assertEquals("active", transformPlan.getStatus());
+        assertTrue(transformPlan.getSavedSize() > 0);
+    }
+
+    @Test
+    public void testTransformPushDownWithDifferentOutput() throws Exception {
+        final Template treeTemplate =
+                new Template("get-forest", "ran-network", "/test-tree", "get", true, null, "branch, name");
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(treeTemplate));
+        Mockito.when(cpsRestClient.fetchNode("ran-network", "/test-tree", "get", true))
+                .thenReturn(readFromFile("sample_multiple_query_data_1.json"));
+        Mockito.when(cpsRestClient.fetchNode(ArgumentMatchers.eq("ran-network"),
+                ArgumentMatchers.eq("/test-tree/branch"), ArgumentMatchers.eq("get"), ArgumentMatchers.any()))
+                .thenReturn("[{\"name\": \"Right\"}]");
+        appConfiguration.getTransformPushDown().setEnabled(true);
+        try {
+            for (int execution = 0; execution < 3; execution++) {
+                assertEquals("[\"Right\",\"Left\"]",
+                        executionBusinessLogic.executeTemplate("ran-network", "get-forest", request));
+            }
+        } finally {
+            appConfiguration.getTransformPushDown().setEnabled(false);
+        }
+        Mockito.verify(cpsRestClient, Mockito.times(3)).fetchNode("ran-network", "/test-tree", "get", true);
+        assertEquals("rejected", transformPushDownPlanner.report(treeTemplate).getStatus());
+    }
+
+    @Test
+    public void testSpilledResponseTransformed() throws Exception {
+        final Template treeTemplate =
+                new Template("get-tree", "ran-network", "/test-tree", "get", true, null, "branch, nest, birds");
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(treeTemplate));
+        final byte[] response = readFromFile("sample_multiple_query_data_1.json").getBytes(StandardCharsets.UTF_8);
+        Mockito.when(cpsRestClient.spoolNode("ran-network", "/test-tree", "get", true, 64))
+                .thenAnswer(invocation -> SpooledResponse.spool(new ByteArrayInputStream(response), -1, 64, 0, null));
+        appConfiguration.getResponseSpill().setEnabled(true);
+        appConfiguration.getResponseSpill().setThresholdBytes(64);
+        try {
+            assertEquals("[[\"Owl\",\"Raven\",\"Crow\"],[\"Robin\",\"Sparrow\",\"Finch\"]]",
+                    executionBusinessLogic.executeTemplate("ran-network", "get-tree", request));
+        } finally {
+            appConfiguration.getResponseSpill().setEnabled(false);
+            appConfiguration.getResponseSpill().setThresholdBytes(16777216);
+        }
+        Mockito.verify(cpsRestClient, Mockito.never()).fetchNode(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testResponseTooLarge() throws Exception {
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(template));
+        Mockito.when(cpsRestClient.spoolNode(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.anyLong()))
+                .thenThrow(new ResponseTooLargeException("Response from CPS larger than 10 bytes"));
+        appConfiguration.getResponseSpill().setEnabled(true);
+        try {
+            exception.expect(ExecuteException.class);
+            exception.expectMessage("Response from CPS larger than 10 bytes");
+            executionBusinessLogic.executeTemplate("ran-network", "getNbr", request);
+        } finally {
+            appConfiguration.getResponseSpill().setEnabled(false);
+        }
+    }
+
+    @Test
+    public void testStreamTemplateNotFound() {
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.empty());
+        exception.expect(TemplateNotFoundException.class);
+        exception.expectMessage("Template does not exist");
+        executionBusinessLogic.streamTemplate("ran-network", "getNbr", request, false);
+    }
+
     @Test
     public void testDeleteDataRequest() {
         final Map<String, String> input = new HashMap<>();
@@ -287,6 +650,98 @@ public class ExecutionBusinessLogicTest {
         }
     }
 
+    @Test
+    public void testExecuteBatch() throws Exception {
+        final Template addTemplate = new Template("addNbr", "ran-network", "/test-tree", "put", true, "", "");
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.empty());
+        Mockito.when(templateRepository.findById(new TemplateKey("getNbr"))).thenReturn(Optional.of(template));
+        Mockito.when(templateRepository.findById(new TemplateKey("addNbr"))).thenReturn(Optional.of(addTemplate));
+        Mockito.when(cpsRestClient
+            .fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenReturn("[{\"key\": \"value\"}]");
+        Mockito.when(cpsRestClient.addData("ran-network", "/test-tree", "put", request.getPayload()))
+            .thenReturn("{\"result\": \"Success\"}");
+        final BatchExecutionItem read = new BatchExecutionItem("ran-network", "getNbr",
+            request.getInputParameters(), request.getPayload());
+        final BatchExecutionItem write = new BatchExecutionItem("ran-network", "addNbr",
+            request.getInputParameters(), request.getPayload());
+        final BatchExecutionItem missing = new BatchExecutionItem("ran-network", "getCells",
+            request.getInputParameters(), request.getPayload());
+
+        final List<BatchExecutionResult> results =
+            executionBusinessLogic.executeBatch(List.of(read, write, read, missing));
+
+        assertEquals(4, results.size());
+        assertEquals("[{\"key\": \"value\"}]", results.get(0).getResult());
+        assertEquals("{\"result\": \"Success\"}", results.get(1).getResult());
+        assertEquals("[{\"key\": \"value\"}]", results.get(2).getResult());
+        assertNull(results.get(3).getResult());
+        assertEquals("Template Not found", results.get(3).getError().getMessage());
+        assertEquals(List.of("Template does not exist"), results.get(3).getError().getDetails());
+        // the write separates the two reads, so both are executed
+        Mockito.verify(cpsRestClient, Mockito.times(2)).fetchNode(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testExecuteBatchDeduplicatesReads() throws Exception {
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(template));
+        Mockito.when(cpsRestClient
+            .fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenThrow(new CpsClientException("Response from CPS other than 200: 404"));
+        final BatchExecutionItem read = new BatchExecutionItem("ran-network", "getNbr",
+            request.getInputParameters(), request.getPayload());
+
+        final List<BatchExecutionResult> results = executionBusinessLogic.executeBatch(List.of(read, read, read));
+
+        assertEquals(3, results.size());
+        for (final BatchExecutionResult result : results) {
+            assertEquals("Error while executing template", result.getError().getMessage());
+            assertEquals(List.of("Response from CPS other than 200: 404"), result.getError().getDetails());
+        }
+        Mockito.verify(cpsRestClient, Mockito.times(1)).fetchNode(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testExecuteBatchReportsItemsWithoutTemplateLookup() throws Exception {
+        Mockito.when(templateRepository.findById(new TemplateKey("getNbr"))).thenReturn(Optional.of(template));
+        Mockito.when(templateRepository.findById(new TemplateKey("getCells")))
+            .thenThrow(new IllegalStateException("Database unavailable"));
+        Mockito.when(cpsRestClient
+            .fetchNode("ran-network", "/ran-coverage-area/pLMNIdList[@mcc='310' and @mnc='410']"
+                + "/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenReturn("[{\"key\": \"value\"}]");
+        final BatchExecutionItem read = new BatchExecutionItem("ran-network", "getNbr",
+            request.getInputParameters(), request.getPayload());
+        final BatchExecutionItem withoutTemplateId = new BatchExecutionItem("ran-network", null,
+            request.getInputParameters(), request.getPayload());
+        final BatchExecutionItem failing = new BatchExecutionItem("ran-network", "getCells",
+            request.getInputParameters(), request.getPayload());
+
+        final List<BatchExecutionResult> results =
+            executionBusinessLogic.executeBatch(Arrays.asList(read, null, withoutTemplateId, failing));
+
+        assertEquals(4, results.size());
+        assertEquals("[{\"key\": \"value\"}]", results.get(0).getResult());
+        assertEquals(List.of("Batch item must have a templateId"), results.get(1).getError().getDetails());
+        assertEquals(List.of("Batch item must have a templateId"), results.get(2).getError().getDetails());
+        assertEquals("ran-network", results.get(2).getModel());
+        assertEquals("Error while executing template", results.get(3).getError().getMessage());
+        assertEquals(List.of("Database unavailable"), results.get(3).getError().getDetails());
+    }
+
+    @Test
+    public void testExecuteBatchLimitExceeded() {
+        final BatchExecutionItem read = new BatchExecutionItem("ran-network", "getNbr",
+            request.getInputParameters(), request.getPayload());
+        exception.expect(BatchLimitExceededException.class);
+        exception.expectMessage("Batch must not have more than 4 items");
+        executionBusinessLogic.executeBatch(List.of(read, read, read, read, read));
+    }
+
     /**
      * Reads a file from classpath.
      *
@@ -0,0 +1,94 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.Template;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+@TestPropertySource(locations = "classpath:application-test.properties",
+    properties = "app.metrics.maxTemplateIdTags=2")
+public class ExecutionMetricsTest {
+
+    @TestConfiguration
+    static class ExecutionMetricsTestContextConfiguration {
+
+        @Bean
+        public ExecutionMetrics executionMetrics() {
+            return new ExecutionMetrics();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ExecutionMetrics executionMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testTemplateIdTagsAreBounded() {
+        for (final String templateId : new String[] {"getNbr", "getCells", "getSlices", "getPlmns"}) {
+            final Template template = new Template(templateId, "ran-network", "/test-tree", "get", true, null, null);
+            executionMetrics.record(ExecutionMetrics.RENDER, template, () -> "/test-tree");
+        }
+        assertEquals(1, renderCount("getNbr"));
+        assertEquals(1, renderCount("getCells"));
+        assertEquals(2, renderCount("other"));
+    }
+
+    @Test
+    public void testFailedStageOutcome() {
+        final Template template = new Template("getNbr", "ran-network", "/test-tree", "get", true, null, null);
+        try {
+            executionMetrics.record(ExecutionMetrics.CPS, template, () -> {
+                throw new CpsClientException("Connection refused");
+            });
+        } catch (final CpsClientException e) {
+            assertEquals("Connection refused", e.getLocalizedMessage());
+        }
+        assertEquals(1, meterRegistry.get(ExecutionMetrics.STAGE_TIMER)
+            .tags("stage", ExecutionMetrics.CPS, "outcome", ExecutionMetrics.ERROR).timer().count());
+    }
+
+    private long renderCount(final String templateId) {
+        return meterRegistry.get(ExecutionMetrics.STAGE_TIMER)
+            .tags("stage", ExecutionMetrics.RENDER, "templateId", templateId).timer().count();
+    }
+}
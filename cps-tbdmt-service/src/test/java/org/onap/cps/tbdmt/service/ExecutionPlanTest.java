@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.onap.cps.tbdmt.exception.TemplateDependencyException;
+import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.model.Template;
+
+public class ExecutionPlanTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final Map<String, Template> templates = new HashMap<>();
+
+    private Template template(final String templateId, final String multipleQueryTemplateId) {
+        final Template template = new Template(templateId, "ran-network", "/" + templateId, "get", true,
+            multipleQueryTemplateId, "value");
+        templates.put(templateId, template);
+        return template;
+    }
+
+    private Optional<Template> findTemplate(final String templateId) {
+        return Optional.ofNullable(templates.get(templateId));
+    }
+
+    private static List<List<String>> templateIds(final List<List<Template>> stages) {
+        return stages.stream()
+            .map(stage -> stage.stream().map(Template::getTemplateId).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testChain() {
+        template("a", null);
+        template("b", "a");
+        final Template root = template("c", "b");
+        final ExecutionPlan executionPlan = ExecutionPlan.resolve(root, this::findTemplate);
+        assertEquals(List.of(List.of("a"), List.of("b")), templateIds(executionPlan.getStages()));
+        assertSame(root, executionPlan.getRoot());
+    }
+
+    @Test
+    public void testDiamondSharesDependency() {
+        template("a", null);
+        template("b", "a");
+        template("c", " a ");
+        final Template root = template("d", "b, c");
+        final ExecutionPlan executionPlan = ExecutionPlan.resolve(root, this::findTemplate);
+        assertEquals(List.of(List.of("a"), List.of("b", "c")), templateIds(executionPlan.getStages()));
+        assertEquals(List.of("b", "c"), executionPlan.dependencies(root).stream().map(Template::getTemplateId)
+            .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testDependenciesOfDifferentDepths() {
+        template("a", null);
+        template("b", "a");
+        final Template root = template("c", "a,b");
+        final ExecutionPlan executionPlan = ExecutionPlan.resolve(root, this::findTemplate);
+        assertEquals(List.of(List.of("a"), List.of("b")), templateIds(executionPlan.getStages()));
+    }
+
+    @Test
+    public void testCriticalPath() {
+        final Template a = template("a", null);
+        final Template b = template("b", null);
+        final Template c = template("c", "a");
+        final Template root = template("d", "b, c");
+        final ExecutionPlan executionPlan = ExecutionPlan.resolve(root, this::findTemplate);
+        executionPlan.recordTiming(a, 0, 10);
+        executionPlan.recordTiming(b, 0, 30);
+        executionPlan.recordTiming(c, 10, 40);
+        executionPlan.recordTiming(root, 40, 45);
+        final Map<Template, Long> criticalPath = executionPlan.criticalPath();
+        assertEquals(List.of(a, c, root), List.copyOf(criticalPath.keySet()));
+        assertEquals(List.of(10L, 30L, 5L), List.copyOf(criticalPath.values()));
+    }
+
+    @Test
+    public void testMissingDependency() {
+        final Template root = template("b", "a");
+        exception.expect(TemplateNotFoundException.class);
+        exception.expectMessage("Multiple query template does not exist");
+        ExecutionPlan.resolve(root, this::findTemplate);
+    }
+
+    @Test
+    public void testCycleIsRejected() {
+        template("a", "c");
+        template("b", "a");
+        final Template root = template("c", "b");
+        exception.expect(TemplateDependencyException.class);
+        exception.expectMessage("Template dependencies form a cycle: c -> b -> a -> c");
+        ExecutionPlan.resolve(root, this::findTemplate);
+    }
+
+    @Test
+    public void testCheckAcyclicIgnoresMissingDependencies() {
+        template("a", "missing");
+        ExecutionPlan.checkAcyclic(template("b", "a, other"), this::findTemplate);
+        assertTrue(ExecutionPlan.dependencyIds(template("c", " ")).isEmpty());
+    }
+
+    @Test
+    public void testCheckAcyclicUsesTemplateBeingSaved() {
+        template("a", null);
+        template("b", "a");
+        final Template updated = new Template("a", "ran-network", "/a", "get", true, "b", "value");
+        exception.expect(TemplateDependencyException.class);
+        exception.expectMessage("a -> b -> a");
+        ExecutionPlan.checkAcyclic(updated, this::findTemplate);
+    }
+}
@@ -0,0 +1,67 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.onap.cps.tbdmt.json.GsonJsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodec;
+
+public class ExecutionResultTest {
+
+    private static final JsonCodec JSON_CODEC = new GsonJsonCodec();
+
+    private static ExecutionResult extract(final String document, final String... stages) throws Exception {
+        return ExecutionResult.ofExtraction(JSON_CODEC,
+            JSON_CODEC.extract(new StringReader(document), List.of(stages)));
+    }
+
+    @Test
+    public void testUntransformedResultIsPassedOn() {
+        final String response = "[{\"key\": \"value\"}]";
+        assertEquals(response, ExecutionResult.ofJson(JSON_CODEC, response).toJson());
+    }
+
+    @Test
+    public void testSingleValueKeepsBracketsOfArrayDocument() throws Exception {
+        assertEquals("[\"Big\"]", extract("[{\"name\":\"Big\"}]", "name").toJson());
+        assertEquals("\"Big\"", extract("{\"name\":\"Big\"}", "name").toJson());
+    }
+
+    @Test
+    public void testSingleValuedArraysAreUnwrapped() throws Exception {
+        final ExecutionResult result = extract("[{\"ref\":[\"OU=Sales\"]},{\"ref\":[\"OU=Sales\"]}]", "ref");
+        assertEquals("[\"OU\\u003dSales\",\"OU\\u003dSales\"]", result.toJson());
+    }
+
+    @Test
+    public void testQueryParameters() throws Exception {
+        assertEquals(Arrays.asList("Right", "Left"),
+            extract("{\"branch\":[{\"name\":\"Right\"},{\"name\":\"Left\"}]}", "branch", "name").toQueryParameters());
+        assertEquals(List.of("15299"), extract("[{\"id\":15299}]", "id").toQueryParameters());
+        assertEquals(List.of("\"Big\""), extract("{\"name\":\"Big\"}", "name").toQueryParameters());
+        assertEquals(List.of("a", "b"), ExecutionResult.ofJson(JSON_CODEC, "[\"a\",\"b\"]").toQueryParameters());
+    }
+}
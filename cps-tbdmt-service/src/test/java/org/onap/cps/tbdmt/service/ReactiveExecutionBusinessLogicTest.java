@@ -0,0 +1,262 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.onap.cps.tbdmt.client.CpsRestClient;
+import org.onap.cps.tbdmt.client.ReactiveCpsClient;
+import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.exception.CpsClientException;
+import org.onap.cps.tbdmt.exception.ExecuteException;
+import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
+import org.onap.cps.tbdmt.json.GsonJsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+@TestPropertySource("classpath:application-test.properties")
+public class ReactiveExecutionBusinessLogicTest {
+
+    @TestConfiguration
+    static class ReactiveExecutionBusinessLogicTestContextConfiguration {
+
+        @Bean
+        public ReactiveExecutionBusinessLogic reactiveExecutionBusinessLogic() {
+            return new ReactiveExecutionBusinessLogic();
+        }
+
+        @Bean
+        public ExecutionBusinessLogic executionBusinessLogic() {
+            return new ExecutionBusinessLogic();
+        }
+
+        @Bean
+        public TemplateCache templateCache() {
+            return new TemplateCache();
+        }
+
+        @Bean
+        public BoundedParallelExecutor boundedParallelExecutor() {
+            return new BoundedParallelExecutor();
+        }
+
+        @Bean
+        public XpathTemplateRegistry xpathTemplateRegistry() {
+            return new XpathTemplateRegistry();
+        }
+
+        @Bean
+        public ReadResultCache readResultCache() {
+            return new ReadResultCache();
+        }
+
+        @Bean
+        public CoalescingReader coalescingReader() {
+            return new CoalescingReader();
+        }
+
+        @Bean
+        public ExecutionMetrics executionMetrics() {
+            return new ExecutionMetrics();
+        }
+
+        @Bean
+        public TransformPushDownPlanner transformPushDownPlanner() {
+            return new TransformPushDownPlanner();
+        }
+
+        @Bean
+        public JsonCodec jsonCodec() {
+            return new GsonJsonCodec();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ReactiveExecutionBusinessLogic reactiveExecutionBusinessLogic;
+
+    @Autowired
+    private TemplateCache templateCache;
+
+    @MockBean
+    private TemplateRepository templateRepository;
+
+    @MockBean
+    private CpsRestClient cpsRestClient;
+
+    @MockBean
+    private ReactiveCpsClient reactiveCpsClient;
+
+    private ExecutionRequest request;
+
+    private Template template;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        // the templates are stubbed per test, so none is served from an earlier one
+        templateCache.invalidateAll();
+        final Map<String, String> input = new HashMap<>();
+        input.put("coverageArea", "Zone 1");
+        request = new ExecutionRequest(input, RawJson.of("{}"));
+        template = new Template("getNbr", "ran-network", "/ran-coverage-area/coverage-area[@coverageArea="
+            + "'{{coverageArea}}']", "get", true, "", "");
+    }
+
+    @Test
+    public void testExecuteTemplate() {
+        final String resultString = "[{\"key\": \"value\"}]";
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network",
+            "/ran-coverage-area/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenReturn(Mono.just(resultString));
+        final AtomicReference<String> lookupThread = new AtomicReference<>();
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread().getName());
+            return Optional.of(template);
+        });
+        assertEquals(resultString,
+            reactiveExecutionBusinessLogic.executeTemplate("ran-network", "getNbr", request).block());
+        assertTrue(lookupThread.get().startsWith("boundedElastic"));
+    }
+
+    @Test
+    public void testExecuteTemplateNotFound() {
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.empty());
+        final Mono<String> result = reactiveExecutionBusinessLogic.executeTemplate("ran-network", "getNbr", request);
+        assertEquals("Template does not exist", assertThrows(TemplateNotFoundException.class, result::block)
+            .getMessage());
+    }
+
+    @Test
+    public void testExecuteTemplateException() {
+        final String exceptionMessage = "Response from CPS other than 200: 404";
+        Mockito.when(reactiveCpsClient.fetchNode(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+            ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+            .thenReturn(Mono.error(new CpsClientException(exceptionMessage)));
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(template));
+        final Mono<String> result = reactiveExecutionBusinessLogic.executeTemplate("ran-network", "getNbr", request);
+        assertEquals(exceptionMessage, assertThrows(ExecuteException.class, result::block).getMessage());
+    }
+
+    @Test
+    public void testMultipleQuery() {
+        final Template treeTemplate =
+            new Template("get-tree", "ran-network", "/test-tree", "get", true, null, "branch, name");
+        final Template branchTemplate = new Template("get-branch", "ran-network",
+            "/test-tree/branch[@name='{{name}}']/nest", "get", true, "get-tree", "name");
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/test-tree", "get", true))
+            .thenReturn(Mono.just(readFromFile("sample_multiple_query_data_1.json")));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/test-tree/branch[@name='Right']/nest", "get", true))
+            .thenReturn(Mono.just(readFromFile("sample_multiple_query_data_2.json")));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/test-tree/branch[@name='Left']/nest", "get", true))
+            .thenReturn(Mono.just(readFromFile("sample_multiple_query_data_3.json")));
+        Mockito.when(templateRepository.findById(new TemplateKey("get-tree"))).thenReturn(Optional.of(treeTemplate));
+        Mockito.when(templateRepository.findById(new TemplateKey("get-branch")))
+            .thenReturn(Optional.of(branchTemplate));
+        assertEquals("[\"Big\", \"Small\"]",
+            reactiveExecutionBusinessLogic.executeTemplate("ran-network", "get-branch", request).block());
+    }
+
+    @Test
+    public void testMultipleQueryWithSharedDependency() {
+        final List<Template> templates = List.of(
+            new Template("get-mcc", "ran-network", "/plmn", "get", true, null, "mcc"),
+            new Template("get-mnc", "ran-network", "/plmn[@mcc='{{mcc}}']/mnc", "get", true, "get-mcc", "mnc"),
+            new Template("get-area", "ran-network", "/plmn[@mcc='{{mcc}}']/area", "get", true, "get-mcc", "area"),
+            new Template("get-cell", "ran-network", "/plmn[@mnc='{{mnc}}']/area[@name='{{area}}']", "get", true,
+                "get-mnc, get-area", null));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/plmn", "get", true))
+            .thenReturn(Mono.just("{\"mcc\": [\"310\"]}"));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/plmn[@mcc='310']/mnc", "get", true))
+            .thenReturn(Mono.just("{\"mnc\": [\"410\", \"420\"]}"));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/plmn[@mcc='310']/area", "get", true))
+            .thenReturn(Mono.just("{\"area\": [\"Zone 1\"]}"));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/plmn[@mnc='410']/area[@name='Zone 1']", "get", true))
+            .thenReturn(Mono.just("{\"cell\":\"c1\"}"));
+        Mockito.when(reactiveCpsClient.fetchNode("ran-network", "/plmn[@mnc='420']/area[@name='Zone 1']", "get", true))
+            .thenReturn(Mono.just("{\"cell\":\"c2\"}"));
+        for (final Template dependency : templates) {
+            Mockito.when(templateRepository.findById(new TemplateKey(dependency.getTemplateId())))
+                .thenReturn(Optional.of(dependency));
+        }
+        assertEquals("[{\"cell\":\"c1\"}, {\"cell\":\"c2\"}]",
+            reactiveExecutionBusinessLogic.executeTemplate("ran-network", "get-cell", request).block());
+        Mockito.verify(reactiveCpsClient, Mockito.times(1)).fetchNode("ran-network", "/plmn", "get", true);
+    }
+
+    @Test
+    public void testDeleteDataRequest() {
+        final Template deleteTemplate = new Template("deleteNbr", "ran-network", "sample", "delete-list-node", true,
+            null, null);
+        Mockito.when(reactiveCpsClient.deleteData("ran-network", "sample", "delete-list-node"))
+            .thenReturn(Mono.just("{\"result\":\"Success\"}"));
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(deleteTemplate));
+        assertEquals("{\"result\":\"Success\"}",
+            reactiveExecutionBusinessLogic.executeTemplate("ran-network", "deleteNbr", request).block());
+    }
+
+    private String readFromFile(final String fileName) {
+        try {
+            final File resource = new ClassPathResource(fileName).getFile();
+            return new String(Files.readAllBytes(resource.toPath()));
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.onap.cps.tbdmt.client.CpsRestClient;
+import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.json.GsonJsonCodec;
+import org.onap.cps.tbdmt.json.JsonCodec;
+import org.onap.cps.tbdmt.json.RawJson;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.ExecutionRequest;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+@TestPropertySource(locations = "classpath:application-test.properties",
+    properties = {"app.resultCache.enabled=true", "app.resultCache.templateTimeToLiveSeconds.getCells=0"})
+public class ReadResultCacheTest {
+
+    @TestConfiguration
+    static class ReadResultCacheTestContextConfiguration {
+
+        @Bean
+        public ExecutionBusinessLogic executionBusinessLogic() {
+            return new ExecutionBusinessLogic();
+        }
+
+        @Bean
+        public TemplateCache templateCache() {
+            return new TemplateCache();
+        }
+
+        @Bean
+        public BoundedParallelExecutor boundedParallelExecutor() {
+            return new BoundedParallelExecutor();
+        }
+
+        @Bean
+        public XpathTemplateRegistry xpathTemplateRegistry() {
+            return new XpathTemplateRegistry();
+        }
+
+        @Bean
+        public ReadResultCache readResultCache() {
+            return new ReadResultCache();
+        }
+
+        @Bean
+        public CoalescingReader coalescingReader() {
+            return new CoalescingReader();
+        }
+
+        @Bean
+        public ExecutionMetrics executionMetrics() {
+            return new ExecutionMetrics();
+        }
+
+        @Bean
+        public TransformPushDownPlanner transformPushDownPlanner() {
+            return new TransformPushDownPlanner();
+        }
+
+        @Bean
+        public JsonCodec jsonCodec() {
+            return new GsonJsonCodec();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ExecutionBusinessLogic executionBusinessLogic;
+
+    @Autowired
+    private ReadResultCache readResultCache;
+
+    @Autowired
+    private TemplateCache templateCache;
+
+    @MockBean
+    private TemplateRepository templateRepository;
+
+    @MockBean
+    private CpsRestClient cpsRestClient;
+
+    private ExecutionRequest request;
+
+    private Template template;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        // the templates are stubbed per test, so none is served from an earlier one
+        templateCache.invalidateAll();
+        final Map<String, String> input = new HashMap<>();
+        input.put("coverageArea", "Zone 1");
+        request = new ExecutionRequest(input, RawJson.of("{}"));
+        template = new Template("getNbr", "ran-network",
+            "/ran-coverage-area/coverage-area[@coverageArea='{{coverageArea}}']", "get", true, "", "");
+        readResultCache.invalidate("cpsCore", "ran-network", "/");
+    }
+
+    @Test
+    public void testCacheHitSkipsCps() throws Exception {
+        Mockito.when(templateRepository.findById(ArgumentMatchers.any())).thenReturn(Optional.of(template));
+        Mockito.when(cpsRestClient.fetchNode("ran-network",
+            "/ran-coverage-area/coverage-area[@coverageArea='Zone 1']", "get", true)).thenReturn("{\"key\": 1}");
+
+        assertEquals("{\"key\": 1}", executionBusinessLogic.executeTemplate("ran-network", "getNbr", request));
+        assertEquals("{\"key\": 1}", executionBusinessLogic.executeTemplate("ran-network", "getNbr", request));
+        Mockito.verify(cpsRestClient, Mockito.times(1)).fetchNode(ArgumentMatchers.any(), ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testWriteInvalidatesOverlappingReads() throws Exception {
+        final Template writeTemplate = new Template("addNbr", "ran-network", "/ran-coverage-area", "patch", true,
+            "", "");
+        Mockito.when(templateRepository.findById(new TemplateKey("getNbr"))).thenReturn(Optional.of(template));
+        Mockito.when(templateRepository.findById(new TemplateKey("addNbr"))).thenReturn(Optional.of(writeTemplate));
+        Mockito.when(cpsRestClient.fetchNode("ran-network",
+            "/ran-coverage-area/coverage-area[@coverageArea='Zone 1']", "get", true))
+            .thenReturn("{\"key\": 1}", "{\"key\": 2}");
+
+        assertEquals("{\"key\": 1}", executionBusinessLogic.executeTemplate("ran-network", "getNbr", request));
+        executionBusinessLogic.executeTemplate("ran-network", "addNbr", request);
+        assertEquals("{\"key\": 2}", executionBusinessLogic.executeTemplate("ran-network", "getNbr", request));
+    }
+
+    @Test
+    public void testTemplateTimeToLive() {
+        final Template noCacheTemplate = new Template("getCells", "ran-network", "/cells", "get", true, "", "");
+        final CpsReadKey cpsReadKey = new CpsReadKey("cpsCore", "ran-network", "/cells", "get", true);
+        readResultCache.put(noCacheTemplate, cpsReadKey, "{}", readResultCache.writeGeneration());
+        assertFalse(readResultCache.get(noCacheTemplate, cpsReadKey).isPresent());
+        readResultCache.put(template, cpsReadKey, "{}", readResultCache.writeGeneration());
+        assertTrue(readResultCache.get(template, cpsReadKey).isPresent());
+    }
+
+    @Test
+    public void testReadStartedBeforeWriteIsNotCached() {
+        final CpsReadKey cpsReadKey = new CpsReadKey("cpsCore", "ran-network", "/cells", "get", true);
+        final long writeGeneration = readResultCache.writeGeneration();
+        readResultCache.invalidate("cpsCore", "ran-network", "/cells/cell[@id='1']");
+        readResultCache.put(template, cpsReadKey, "{}", writeGeneration);
+        assertFalse(readResultCache.get(template, cpsReadKey).isPresent());
+    }
+
+    @Test
+    public void testOverlap() {
+        final CpsReadKey cpsReadKey = new CpsReadKey("cpsCore", "ran-network", "/a/b[@id='1']", "get", true);
+        assertTrue(cpsReadKey.isAffectedBy("cpsCore", "ran-network", "/a"));
+        assertTrue(cpsReadKey.isAffectedBy("cpsCore", "ran-network", "/a/b[@id='1']/c"));
+        assertFalse(cpsReadKey.isAffectedBy("cpsCore", "ran-network", "/a/c"));
+        assertFalse(cpsReadKey.isAffectedBy("cpsCore", "other-anchor", "/a"));
+        assertFalse(cpsReadKey.isAffectedBy("ncmp", "ran-network", "/a"));
+        final CpsReadKey cpsPathKey = new CpsReadKey("cpsCore", "ran-network", "//b", "query-cps-path", true);
+        assertTrue(cpsPathKey.isAffectedBy("cpsCore", "ran-network", "/a/c"));
+    }
+}
@@ -0,0 +1,130 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.hubspot.jinjava.Jinjava;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SubstitutionTemplateTest {
+
+    private static final List<String> XPATH_TEMPLATES = List.of(
+        "/ran-network/NearRTRIC[@idNearRTRIC='{{idNearRTRIC}}']/GNBCUUPFunction[@idGNBCUUPFunction="
+            + "'{{idGNBCUUPFunction}}']/attributes/pLMNInfoList[@mcc='{{mcc}}' and @mnc='{{mnc}}']"
+            + "/sNSSAIList[@sNssai='{{sNSSAIList}}']",
+        "/ran-network/NearRTRIC[@idNearRTRIC='{{idNearRTRIC}}']/GNBCUUPFunction[@idGNBCUUPFunction="
+            + "'{{idGNBCUUPFunction}}']/attributes/RRMPolicyRatio[@id='{{id}}']/attributes"
+            + "/rRMPolicyMemberList[@idx='{{idx}}']",
+        "/coverage-area[@coverageArea='{{ coverageArea }}']",
+        "{{idNearRTRIC}}{{mcc}}",
+        "/ran-network/{{ missing }}/attributes",
+        "/ran-network/{ {mcc} }/}}/attributes",
+        "",
+        "/ran-network");
+
+    private final Jinjava jinjava = new Jinjava();
+
+    private Map<String, String> input;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        input = new HashMap<>();
+        input.put("idNearRTRIC", "11");
+        input.put("idGNBCUUPFunction", "1");
+        input.put("mcc", "310");
+        input.put("mnc", "410");
+        input.put("sNSSAIList", "001-1100");
+        input.put("id", "rrm-pol-2");
+        input.put("idx", "2");
+        input.put("coverageArea", "Zone 1");
+    }
+
+    @Test
+    public void testRendersAsJinjava() {
+        for (final String xpathTemplate : XPATH_TEMPLATES) {
+            assertRendersAsJinjava(xpathTemplate, input);
+        }
+    }
+
+    @Test
+    public void testRendersSpecialValuesAsJinjava() {
+        input.put("mcc", "it's \"310\" & <410> \\ $1");
+        input.put("mnc", "zone é中😀");
+        input.put("idx", "} { }}");
+        input.put("id", "");
+        input.put("idNearRTRIC", null);
+        for (final String xpathTemplate : XPATH_TEMPLATES) {
+            assertRendersAsJinjava(xpathTemplate, input);
+        }
+    }
+
+    @Test
+    public void testRendersWithoutParameters() {
+        for (final String xpathTemplate : XPATH_TEMPLATES) {
+            assertRendersAsJinjava(xpathTemplate, new HashMap<>());
+        }
+    }
+
+    @Test
+    public void testTemplatesNeedingTheEngine() {
+        assertNull(SubstitutionTemplate.compile("{% if mcc %}/mcc{% endif %}"));
+        assertNull(SubstitutionTemplate.compile("/mcc{# comment #}"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{ mcc | upper }}']"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{ plmn.mcc }}']"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{ 'mcc' }}']"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{ true }}']"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{ none }}']"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{ }}']"));
+        assertNull(SubstitutionTemplate.compile("/mcc[@id='{{mcc']"));
+    }
+
+    @Test
+    public void testValuesNeedingTheEngine() {
+        final SubstitutionTemplate substitutionTemplate = SubstitutionTemplate.compile("/mcc[@id='{{mcc}}']");
+        assertNotNull(substitutionTemplate);
+        assertTrue(substitutionTemplate.canRender(input));
+        input.put("mcc", "{{ mnc }}");
+        assertFalse(substitutionTemplate.canRender(input));
+        input.put("mcc", "{% raw %}");
+        assertFalse(substitutionTemplate.canRender(input));
+    }
+
+    private void assertRendersAsJinjava(final String xpathTemplate, final Map<String, String> templateParameters) {
+        final SubstitutionTemplate substitutionTemplate = SubstitutionTemplate.compile(xpathTemplate);
+        assertNotNull(xpathTemplate, substitutionTemplate);
+        assertTrue(xpathTemplate, substitutionTemplate.canRender(templateParameters));
+        assertEquals(xpathTemplate, jinjava.render(xpathTemplate, templateParameters),
+            substitutionTemplate.render(templateParameters));
+    }
+}
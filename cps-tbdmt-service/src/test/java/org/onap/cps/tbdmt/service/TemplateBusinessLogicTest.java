@@ -35,10 +35,12 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.exception.TemplateDependencyException;
 import org.onap.cps.tbdmt.exception.TemplateNotFoundException;
 import org.onap.cps.tbdmt.model.Template;
 import org.onap.cps.tbdmt.model.TemplateKey;
 import org.onap.cps.tbdmt.model.TemplateRequest;
+import org.onap.cps.tbdmt.model.TransformPlan;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -63,6 +65,15 @@ public class TemplateBusinessLogicTest {
     @MockBean
     private TemplateRepository templateRepository;
 
+    @MockBean
+    private TemplateCache templateCache;
+
+    @MockBean
+    private XpathTemplateRegistry xpathTemplateRegistry;
+
+    @MockBean
+    private TransformPushDownPlanner transformPushDownPlanner;
+
     @Rule
     public ExpectedException exception = ExpectedException.none();
 
@@ -81,6 +92,28 @@ public class TemplateBusinessLogicTest {
                         true, "sample", "getRIC");
         Mockito.when(templateRepository.save(ArgumentMatchers.any())).thenReturn(template);
         assertEquals(template, templateBusinessLogic.createTemplate(templateRequest));
+        verify(templateCache, times(1)).put(template);
+        verify(xpathTemplateRegistry, times(1)).register(template);
+        verify(transformPushDownPlanner, times(1)).register(template);
+    }
+
+    @Test
+    public void testGetTransformPlan() {
+        final TransformPlan transformPlan = new TransformPlan();
+        Mockito.when(templateRepository.findById(new TemplateKey("getNbr"))).thenReturn(Optional.of(template));
+        Mockito.when(transformPushDownPlanner.report(template)).thenReturn(transformPlan);
+        assertEquals(transformPlan, templateBusinessLogic.getTransformPlan(new TemplateKey("getNbr")));
+    }
+
+    @Test
+    public void testCreateTemplateWithCycleIsRejected() {
+        final TemplateRequest templateRequest = new TemplateRequest("getNbr", "ran-network", "sample", "get",
+                        true, "getRIC", "getRIC");
+        Mockito.when(templateCache.findById(new TemplateKey("getRIC"))).thenReturn(Optional.of(
+                new Template("getRIC", "ran-network", "sample", "get", true, "getNbr", "getRIC")));
+        exception.expect(TemplateDependencyException.class);
+        exception.expectMessage("Template dependencies form a cycle: getNbr -> getRIC -> getNbr");
+        templateBusinessLogic.createTemplate(templateRequest);
     }
 
     @Test
@@ -108,6 +141,8 @@ public class TemplateBusinessLogicTest {
         Mockito.when(templateRepository.existsById(templateKey)).thenReturn(true);
         templateBusinessLogic.deleteTemplate(templateKey);
         verify(templateRepository, times(1)).deleteById(templateKey);
+        verify(templateCache, times(1)).invalidate(templateKey);
+        verify(xpathTemplateRegistry, times(1)).invalidate(templateKey);
 
         Mockito.when(templateRepository.existsById(ArgumentMatchers.any())).thenReturn(false);
         exception.expect(TemplateNotFoundException.class);
@@ -0,0 +1,111 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.onap.cps.tbdmt.db.TemplateRepository;
+import org.onap.cps.tbdmt.model.AppConfiguration;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@EnableConfigurationProperties(AppConfiguration.class)
+public class TemplateCacheTest {
+
+    @TestConfiguration
+    static class TemplateCacheTestContextConfiguration {
+
+        @Bean
+        public TemplateCache templateCache() {
+            return new TemplateCache();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TemplateCache templateCache;
+
+    @MockBean
+    private TemplateRepository templateRepository;
+
+    private Template template;
+
+    private TemplateKey templateKey;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        template = new Template("getNbr", "ran-network", "sample", "get", true, "", "");
+        templateKey = new TemplateKey("getNbr");
+        templateCache.invalidate(templateKey);
+    }
+
+    @Test
+    public void testFindByIdLoadsOnce() {
+        Mockito.when(templateRepository.findById(templateKey)).thenReturn(Optional.of(template));
+        assertEquals(template, templateCache.findById(templateKey).get());
+        assertEquals(template, templateCache.findById(templateKey).get());
+        verify(templateRepository, times(1)).findById(templateKey);
+    }
+
+    @Test
+    public void testFindByIdMissingTemplate() {
+        Mockito.when(templateRepository.findById(templateKey)).thenReturn(Optional.empty());
+        assertFalse(templateCache.findById(templateKey).isPresent());
+        assertFalse(templateCache.findById(templateKey).isPresent());
+        verify(templateRepository, times(2)).findById(templateKey);
+    }
+
+    @Test
+    public void testWriteThrough() {
+        templateCache.put(template);
+        assertEquals(template, templateCache.findById(templateKey).get());
+        verify(templateRepository, times(0)).findById(templateKey);
+
+        templateCache.invalidate(templateKey);
+        Mockito.when(templateRepository.findById(templateKey)).thenReturn(Optional.empty());
+        assertFalse(templateCache.findById(templateKey).isPresent());
+    }
+}
@@ -0,0 +1,115 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TransformPlan;
+import org.onap.cps.tbdmt.service.TransformPushDown.Candidate;
+
+public class TransformPushDownTest {
+
+    private static Template template(final String xpathTemplate, final String requestType,
+                                     final Boolean includeDescendants, final String transformParam) {
+        return new Template("getCell", "ran-network", xpathTemplate, requestType, includeDescendants, null,
+            transformParam);
+    }
+
+    @Test
+    public void testNarrowerReadOfWrappedNode() {
+        final TransformPushDown pushDown = TransformPushDown.analyse(template("/NearRTRIC[@idNearRTRIC='{{id}}']",
+            "get", true, "NearRTRIC, GNBDUFunction, attributes"));
+        final Candidate candidate = pushDown.candidate();
+        assertEquals("/NearRTRIC[@idNearRTRIC='11']/GNBDUFunction", candidate.xpath("/NearRTRIC[@idNearRTRIC='11']"));
+        assertFalse(candidate.getIncludeDescendants());
+        assertEquals(List.of("GNBDUFunction", "attributes"), candidate.getStages());
+    }
+
+    @Test
+    public void testCandidatesInOrder() {
+        final TransformPushDown pushDown = TransformPushDown.analyse(template("/test-tree", "get", true,
+            "branch, name"));
+        final Candidate first = pushDown.candidate();
+        assertEquals("branch", first.getChildStep());
+        assertFalse(first.getIncludeDescendants());
+        assertEquals(List.of("name"), first.getStages());
+        pushDown.recordShadowExecution(first, false, 100, 0, "Output of the narrower read differed");
+        final Candidate second = pushDown.candidate();
+        assertEquals("branch", second.getChildStep());
+        assertTrue(second.getIncludeDescendants());
+        pushDown.recordShadowExecution(second, false, 100, 0, "Narrower read failed");
+        assertNull(pushDown.candidate());
+        final TransformPlan transformPlan = pushDown.report("getCell", 1);
+        assertEquals("rejected", transformPlan.getStatus());
+        assertEquals("Narrower read failed", transformPlan.getReason());
+    }
+
+    @Test
+    public void testReadWithoutDescendants() {
+        final Candidate candidate = TransformPushDown.analyse(template("/ran/cell[@id='{{id}}']", "get", true,
+            "cell, pci")).candidate();
+        assertNull(candidate.getChildStep());
+        assertFalse(candidate.getIncludeDescendants());
+        assertEquals(List.of("cell", "pci"), candidate.getStages());
+    }
+
+    @Test
+    public void testNothingToPushDown() {
+        assertEquals("none", TransformPushDown.analyse(template("/ran", "get", true, null)).report("getCell", 1)
+            .getStatus());
+        assertNull(TransformPushDown.analyse(template("/ran", "query", true, "cell, pci")).candidate());
+        assertNull(TransformPushDown.analyse(template("/ran", "get", false, "ran")).candidate());
+        assertNull(TransformPushDown.analyse(template("{% if a %}/a{% endif %}", "get", true, "a, b")).candidate());
+    }
+
+    @Test
+    public void testVerification() {
+        final TransformPushDown pushDown = TransformPushDown.analyse(template("/test-tree", "get", true,
+            "branch, name"));
+        final Candidate candidate = pushDown.candidate();
+        assertFalse(pushDown.isVerified(candidate, 2, 0));
+        pushDown.recordShadowExecution(candidate, true, 1000, 100, null);
+        pushDown.recordShadowExecution(candidate, true, 1000, 100, null);
+        assertTrue(pushDown.isVerified(candidate, 2, 0));
+        assertTrue(pushDown.isVerified(candidate, 2, 2));
+        assertFalse(pushDown.isVerified(candidate, 2, 2));
+        final TransformPlan transformPlan = pushDown.report("getCell", 2);
+        assertEquals("active", transformPlan.getStatus());
+        assertEquals("/branch", transformPlan.getXpathSuffix());
+        assertEquals("name", transformPlan.getTransformParam());
+        assertEquals(2, transformPlan.getVerifiedExecutions());
+        assertEquals(900, transformPlan.getSavedSize());
+    }
+
+    @Test
+    public void testPlanOfChangedTemplate() {
+        final TransformPushDown pushDown = TransformPushDown.analyse(template("/test-tree", "get", true,
+            "branch, name"));
+        assertTrue(pushDown.isPlanOf(template("/test-tree", "get", true, "branch, name")));
+        assertFalse(pushDown.isPlanOf(template("/test-tree", "get", true, "branch, nest")));
+    }
+}
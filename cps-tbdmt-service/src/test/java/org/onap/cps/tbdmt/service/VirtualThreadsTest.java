@@ -0,0 +1,47 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void testVirtualThreadPerTaskExecutor() throws Exception {
+        assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isSupported());
+        if (!VirtualThreads.isSupported()) {
+            assertThrows(IllegalStateException.class, VirtualThreads::newVirtualThreadPerTaskExecutor);
+            return;
+        }
+        final ExecutorService executorService = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        try {
+            assertEquals("virtual", executorService.submit(() -> Thread.currentThread().toString().startsWith(
+                "VirtualThread") ? "virtual" : "platform").get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 Wipro Limited.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.cps.tbdmt.service;
+
+import static org.junit.Assert.assertEquals;
+
+import com.hubspot.jinjava.Jinjava;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.onap.cps.tbdmt.model.Template;
+import org.onap.cps.tbdmt.model.TemplateKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+public class XpathTemplateRegistryTest {
+
+    @TestConfiguration
+    static class XpathTemplateRegistryTestContextConfiguration {
+
+        @Bean
+        public XpathTemplateRegistry xpathTemplateRegistry() {
+            return new XpathTemplateRegistry();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private XpathTemplateRegistry xpathTemplateRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Map<String, String> input;
+
+    /**
+     * Setup variables before test.
+     *
+     */
+    @Before
+    public void setup() {
+        input = new HashMap<>();
+        input.put("coverageArea", "Zone 1");
+        xpathTemplateRegistry.invalidate(new TemplateKey("getNbr"));
+    }
+
+    @Test
+    public void testRenderCompilesOnce() {
+        final Template template = new Template("getNbr", "ran-network",
+            "/coverage-area[@coverageArea='{{coverageArea}}']", "get", true, "", "");
+        final double compiledBefore = meterRegistry.get("tbdmt.xpath.template.compile").timer().count();
+        assertEquals("/coverage-area[@coverageArea='Zone 1']", xpathTemplateRegistry.render(template, input));
+        assertEquals("/coverage-area[@coverageArea='Zone 1']", xpathTemplateRegistry.render(template, input));
+        assertEquals(compiledBefore + 1, meterRegistry.get("tbdmt.xpath.template.compile").timer().count(), 0);
+    }
+
+    @Test
+    public void testRenderRecompilesChangedTemplate() {
+        final Template template = new Template("getNbr", "ran-network",
+            "/coverage-area[@coverageArea='{{coverageArea}}']", "get", true, "", "");
+        xpathTemplateRegistry.render(template, input);
+        template.setXpathTemplate("/area[@name='{{coverageArea}}']");
+        assertEquals("/area[@name='Zone 1']", xpathTemplateRegistry.render(template, input));
+    }
+
+    @Test
+    public void testRenderAfterInvalidate() {
+        final Template template = new Template("getNbr", "ran-network",
+            "{% if coverageArea %}/coverage-area[@coverageArea='{{coverageArea}}']{% endif %}", "get", true, "", "");
+        assertEquals("/coverage-area[@coverageArea='Zone 1']", xpathTemplateRegistry.render(template, input));
+        xpathTemplateRegistry.invalidate(new TemplateKey("getNbr"));
+        assertEquals("", xpathTemplateRegistry.render(template, new HashMap<>()));
+    }
+
+    @Test
+    public void testRegisterCompilesOnSave() {
+        final Template template = new Template("getNbr", "ran-network",
+            "/coverage-area[@coverageArea='{{coverageArea}}']", "get", true, "", "");
+        xpathTemplateRegistry.register(template);
+        final double compiledBefore = meterRegistry.get("tbdmt.xpath.template.compile").timer().count();
+        assertEquals("/coverage-area[@coverageArea='Zone 1']", xpathTemplateRegistry.render(template, input));
+        assertEquals(compiledBefore, meterRegistry.get("tbdmt.xpath.template.compile").timer().count(), 0);
+    }
+
+    @Test
+    public void testSubstitutionRenderer() {
+        final Template template = new Template("getNbr", "ran-network",
+            "/coverage-area[@coverageArea='{{ coverageArea }}']", "get", true, "", "");
+        final double substitutedBefore = renderCount("substitution");
+        final double interpretedBefore = renderCount("jinjava");
+        assertEquals("/coverage-area[@coverageArea='Zone 1']", xpathTemplateRegistry.render(template, input));
+        input.put("coverageArea", "{{ 'Zone 2' }}");
+        assertEquals(new Jinjava().render(template.getXpathTemplate(), input),
+            xpathTemplateRegistry.render(template, input));
+        assertEquals(substitutedBefore + 1, renderCount("substitution"), 0);
+        assertEquals(interpretedBefore + 1, renderCount("jinjava"), 0);
+    }
+
+    private double renderCount(final String renderer) {
+        return meterRegistry.get("tbdmt.xpath.template.render").tag("renderer", renderer).counter().count();
+    }
+}